@@ -0,0 +1,24 @@
+package com.objectstorage.converter;
+
+import jakarta.xml.bind.DatatypeConverter;
+import lombok.SneakyThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Represents converter used to create fixed-length digests of values, which should not be kept or exposed as is.
+ */
+public class DigestConverter {
+    /**
+     * Converts given value to uppercase hex encoded SHA3-256 digest of its UTF-8 representation.
+     *
+     * @param value given value to be converted.
+     * @return converted digest.
+     */
+    @SneakyThrows
+    public static String convert(String value) {
+        MessageDigest md = MessageDigest.getInstance("SHA3-256");
+        return DatatypeConverter.printHexBinary(md.digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+}
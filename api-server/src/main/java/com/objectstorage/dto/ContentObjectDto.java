@@ -0,0 +1,21 @@
+package com.objectstorage.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Represents content object retrieved together with its metadata.
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class ContentObjectDto {
+    /**
+     * Represents content object data.
+     */
+    private byte[] content;
+
+    /**
+     * Represents metadata of the retrieved content object version.
+     */
+    private ContentObjectMetadataDto metadata;
+}
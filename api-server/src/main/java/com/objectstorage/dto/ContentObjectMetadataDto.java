@@ -0,0 +1,21 @@
+package com.objectstorage.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Represents content object metadata.
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class ContentObjectMetadataDto {
+    /**
+     * Represents entity tag.
+     */
+    private String etag;
+
+    /**
+     * Represents last modified timestamp.
+     */
+    private Long lastModified;
+}
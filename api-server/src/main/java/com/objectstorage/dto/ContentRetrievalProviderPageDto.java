@@ -0,0 +1,24 @@
+package com.objectstorage.dto;
+
+import com.objectstorage.model.ContentRetrievalProviderUnit;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Represents single page of content retrieval provider units.
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class ContentRetrievalProviderPageDto {
+    /**
+     * Represents content retrieval provider units.
+     */
+    private List<ContentRetrievalProviderUnit> units;
+
+    /**
+     * Represents continuation token used to retrieve the next page, which is null for the last page.
+     */
+    private String continuationToken;
+}
@@ -33,4 +33,9 @@ public class EarliestTemporateContentDto {
      * Represents created at timestamp.
      */
     private Long createdAt;
+
+    /**
+     * Represents W3C trace context of the originating upload, which can be null.
+     */
+    private String traceParent;
 }
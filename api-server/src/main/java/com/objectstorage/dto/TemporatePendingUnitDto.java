@@ -0,0 +1,26 @@
+package com.objectstorage.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Represents temporate content of a single hash, which is still pending replication.
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class TemporatePendingUnitDto {
+    /**
+     * Represents file hash.
+     */
+    private String hash;
+
+    /**
+     * Represents the earliest created at timestamp.
+     */
+    private Long createdAt;
+
+    /**
+     * Represents amount of pending temporate entities.
+     */
+    private Integer amount;
+}
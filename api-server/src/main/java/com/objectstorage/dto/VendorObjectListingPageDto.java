@@ -0,0 +1,23 @@
+package com.objectstorage.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Represents single page of vendor object listing.
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class VendorObjectListingPageDto {
+    /**
+     * Represents listed objects.
+     */
+    private List<VendorObjectListingDto> objects;
+
+    /**
+     * Represents continuation token used to retrieve the next page, which is null for the last page.
+     */
+    private String continuationToken;
+}
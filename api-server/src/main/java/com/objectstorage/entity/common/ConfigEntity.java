@@ -51,6 +51,45 @@ public class ConfigEntity {
     @JsonProperty("connection")
     public Connection connection;
 
+    /**
+     * Represents ObjectStorage API Server configuration used for secrets sessions setup.
+     */
+    @Getter
+    public static class Session {
+        /**
+         * Represents all supported session stores.
+         */
+        @Getter
+        public enum Store {
+            @JsonProperty("local")
+            LOCAL("local"),
+
+            @JsonProperty("database")
+            DATABASE("database");
+
+            private final String value;
+
+            Store(String value) {
+                this.value = value;
+            }
+
+            public String toString() {
+                return value;
+            }
+        }
+
+        @NotNull
+        @JsonProperty("store")
+        public Store store;
+
+        @JsonProperty("signing-key")
+        public String signingKey;
+    }
+
+    @Valid
+    @JsonProperty("session")
+    public Session session;
+
     /**
      * Represents ObjectStorage internal storage configuration used for internal database setup.
      */
@@ -93,6 +132,83 @@ public class ConfigEntity {
         @NotNull
         @JsonProperty("password")
         public String password;
+
+        /**
+         * Represents ObjectStorage internal storage configuration used for tuned SQLite setup.
+         */
+        @Getter
+        public static class Sqlite3 {
+            /**
+             * Represents all supported SQLite journal modes.
+             */
+            @Getter
+            public enum JournalMode {
+                @JsonProperty("delete")
+                DELETE("delete"),
+
+                @JsonProperty("wal")
+                WAL("wal");
+
+                private final String value;
+
+                JournalMode(String value) {
+                    this.value = value;
+                }
+
+                public String toString() {
+                    return value;
+                }
+            }
+
+            /**
+             * Represents all supported SQLite synchronization modes.
+             */
+            @Getter
+            public enum Synchronous {
+                @JsonProperty("full")
+                FULL("full"),
+
+                @JsonProperty("normal")
+                NORMAL("normal");
+
+                private final String value;
+
+                Synchronous(String value) {
+                    this.value = value;
+                }
+
+                public String toString() {
+                    return value;
+                }
+            }
+
+            @NotNull
+            @JsonProperty("journal-mode")
+            public JournalMode journalMode;
+
+            @NotNull
+            @JsonProperty("synchronous")
+            public Synchronous synchronous;
+
+            @NotNull
+            @Min(0)
+            @JsonProperty("mmap-size")
+            public Long mmapSize;
+
+            @NotNull
+            @Min(0)
+            @JsonProperty("cache-size")
+            public Integer cacheSize;
+
+            @NotNull
+            @Min(0)
+            @JsonProperty("busy-timeout")
+            public Integer busyTimeout;
+        }
+
+        @Valid
+        @JsonProperty("sqlite3")
+        public Sqlite3 sqlite3;
     }
 
     @Valid
@@ -208,6 +324,49 @@ public class ConfigEntity {
         @NotNull
         @JsonProperty("node-exporter")
         public NodeExporter nodeExporter;
+
+        /**
+         * Represents ObjectStorage API Server configuration used for tracing setup.
+         */
+        @Getter
+        public static class Tracing {
+            @NotNull
+            @JsonProperty("enabled")
+            public Boolean enabled;
+
+            /**
+             * Represents all supported tracing exporters.
+             */
+            @Getter
+            public enum Exporter {
+                @JsonProperty("file")
+                FILE("file"),
+
+                @JsonProperty("otlp")
+                OTLP("otlp");
+
+                private final String value;
+
+                Exporter(String value) {
+                    this.value = value;
+                }
+
+                public String toString() {
+                    return value;
+                }
+            }
+
+            @NotNull
+            @JsonProperty("exporter")
+            public Exporter exporter;
+
+            @JsonProperty("endpoint")
+            public String endpoint;
+        }
+
+        @Valid
+        @JsonProperty("tracing")
+        public Tracing tracing;
     }
 
     @Valid
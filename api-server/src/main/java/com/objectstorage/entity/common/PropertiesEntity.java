@@ -5,12 +5,31 @@ import lombok.Getter;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.util.Optional;
+
 /**
  * Exposes access to properties setup to be used for further configuration.
  */
 @Getter
 @ApplicationScoped
 public class PropertiesEntity {
+    /**
+     * Represents all supported verification modes of vendor write operations. Unknown mode fails application startup.
+     */
+    public enum VerificationMode {
+        NONE,
+        SYNC,
+        ASYNC
+    }
+
+    /**
+     * Represents all supported types of vendor clients. Unknown type fails application startup.
+     */
+    public enum ClientType {
+        SYNC,
+        ASYNC
+    }
+
     @ConfigProperty(name = "quarkus.application.version")
     String applicationVersion;
 
@@ -32,6 +51,30 @@ public class PropertiesEntity {
     @ConfigProperty(name = "content.root.notation")
     String contentRootNotation;
 
+    @ConfigProperty(name = "content.listing.limit.default")
+    Integer contentListingLimitDefault;
+
+    @ConfigProperty(name = "content.listing.limit.max")
+    Integer contentListingLimitMax;
+
+    @ConfigProperty(name = "content.admission.retrieval.limit")
+    Integer contentAdmissionRetrievalLimit;
+
+    @ConfigProperty(name = "content.admission.application.limit")
+    Integer contentAdmissionApplicationLimit;
+
+    @ConfigProperty(name = "content.admission.upload.limit")
+    Integer contentAdmissionUploadLimit;
+
+    @ConfigProperty(name = "content.admission.download.limit")
+    Integer contentAdmissionDownloadLimit;
+
+    @ConfigProperty(name = "content.admission.removal.limit")
+    Integer contentAdmissionRemovalLimit;
+
+    @ConfigProperty(name = "content.admission.retry-after")
+    Integer contentAdmissionRetryAfter;
+
     @ConfigProperty(name = "secrets.jwt.upn")
     String secretsJwtUpn;
 
@@ -44,6 +87,18 @@ public class PropertiesEntity {
     @ConfigProperty(name = "secrets.jwt.header.notation")
     String secretsJwtHeaderNotation;
 
+    @ConfigProperty(name = "secrets.jwt.verification.cache.max-size")
+    Integer secretsJwtVerificationCacheMaxSize;
+
+    @ConfigProperty(name = "secrets.validation.cache.ttl")
+    Integer secretsValidationCacheTtl;
+
+    @ConfigProperty(name = "secrets.validation.cache.negative-ttl")
+    Integer secretsValidationCacheNegativeTtl;
+
+    @ConfigProperty(name = "secrets.validation.cache.max-size")
+    Integer secretsValidationCacheMaxSize;
+
     @ConfigProperty(name = "database.tables.config.name")
     String databaseConfigTableName;
 
@@ -59,18 +114,69 @@ public class PropertiesEntity {
     @ConfigProperty(name = "database.tables.secret.name")
     String databaseSecretTableName;
 
-    @ConfigProperty(name = "database.statement.close-delay")
-    Integer databaseStatementCloseDelay;
+    @ConfigProperty(name = "database.tables.session.name")
+    String databaseSessionTableName;
+
+    @ConfigProperty(name = "database.statement.cache.size")
+    Integer databaseStatementCacheSize;
+
+    @ConfigProperty(name = "database.entity.cache.ttl")
+    Integer databaseEntityCacheTtl;
+
+    @ConfigProperty(name = "database.entity.cache.max-size")
+    Integer databaseEntityCacheMaxSize;
 
     @ConfigProperty(name = "database.transaction.savepoint.symbols.count")
     Integer databaseTransactionSavepointSymbolsCount;
 
+    @ConfigProperty(name = "processor.lock.stripes")
+    Integer processorLockStripes;
+
+    @ConfigProperty(name = "vendor.s3.client.type")
+    ClientType vendorS3ClientType;
+
+    @ConfigProperty(name = "vendor.s3.client.multipart.part-size")
+    Integer vendorS3ClientMultipartPartSize;
+
+    @ConfigProperty(name = "vendor.s3.client.multipart.concurrency")
+    Integer vendorS3ClientMultipartConcurrency;
+
+    @ConfigProperty(name = "vendor.s3.client.max-connections")
+    Integer vendorS3ClientMaxConnections;
+
+    @ConfigProperty(name = "vendor.s3.client.connection.idle-timeout")
+    Long vendorS3ClientConnectionIdleTimeout;
+
+    @ConfigProperty(name = "vendor.s3.client.idle-timeout")
+    Integer vendorS3ClientIdleTimeout;
+
+    @ConfigProperty(name = "vendor.s3.verification.mode")
+    VerificationMode vendorS3VerificationMode;
+
+    @ConfigProperty(name = "vendor.verification.delay")
+    Integer vendorVerificationDelay;
+
+    @ConfigProperty(name = "vendor.removal.parallelism")
+    Integer vendorRemovalParallelism;
+
+    @ConfigProperty(name = "vendor.gcs.client.idle-timeout")
+    Integer vendorGCSClientIdleTimeout;
+
+    @ConfigProperty(name = "vendor.s3.endpoint")
+    Optional<String> vendorS3Endpoint;
+
+    @ConfigProperty(name = "vendor.local.directory")
+    String vendorLocalDirectory;
+
     @ConfigProperty(name = "config.location")
     String configLocation;
 
     @ConfigProperty(name = "workspace.directory")
     String workspaceDirectory;
 
+    @ConfigProperty(name = "workspace.unit-key.cache.max-size")
+    Integer workspaceUnitKeyCacheMaxSize;
+
     @ConfigProperty(name = "workspace.content.object.directory")
     String workspaceContentObjectDirectory;
 
@@ -83,9 +189,6 @@ public class PropertiesEntity {
     @ConfigProperty(name = "workspace.compression.file.name")
     String workspaceCompressionFileName;
 
-    @ConfigProperty(name = "diagnostics.scrape.delay")
-    Integer diagnosticsScrapeDelay;
-
     @ConfigProperty(name = "diagnostics.common.docker.network.name")
     String diagnosticsCommonDockerNetworkName;
 
@@ -110,6 +213,12 @@ public class PropertiesEntity {
     @ConfigProperty(name = "diagnostics.grafana.dashboards.diagnostics.output")
     String diagnosticsGrafanaDashboardsDiagnosticsOutput;
 
+    @ConfigProperty(name = "diagnostics.grafana.dashboards.operations.template")
+    String diagnosticsGrafanaDashboardsOperationsTemplate;
+
+    @ConfigProperty(name = "diagnostics.grafana.dashboards.operations.output")
+    String diagnosticsGrafanaDashboardsOperationsOutput;
+
     @ConfigProperty(name = "diagnostics.grafana.internal.location")
     String diagnosticsGrafanaInternalLocation;
 
@@ -146,6 +255,12 @@ public class PropertiesEntity {
     @ConfigProperty(name = "diagnostics.metrics.connection.timeout")
     Integer diagnosticsMetricsConnectionTimeout;
 
+    @ConfigProperty(name = "diagnostics.tracing.file.location")
+    String diagnosticsTracingFileLocation;
+
+    @ConfigProperty(name = "diagnostics.tracing.service.name")
+    String diagnosticsTracingServiceName;
+
     @ConfigProperty(name = "git.commit.id.abbrev")
     String gitCommitId;
 
@@ -0,0 +1,26 @@
+package com.objectstorage.entity.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Represents entity used to describe shared secrets sessions.
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class SessionEntity {
+    /**
+     * Represents id primary key column, which is session key.
+     */
+    private String id;
+
+    /**
+     * Represents serialized validation secrets application column.
+     */
+    private String data;
+
+    /**
+     * Represents expiration timestamp column.
+     */
+    private Long expiresAt;
+}
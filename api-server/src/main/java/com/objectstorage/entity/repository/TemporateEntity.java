@@ -41,4 +41,9 @@ public class TemporateEntity {
      * Represents created at column.
      */
     private Long createdAt;
+
+    /**
+     * Represents W3C trace context of the originating upload, which can be null.
+     */
+    private String traceParent;
 }
\ No newline at end of file
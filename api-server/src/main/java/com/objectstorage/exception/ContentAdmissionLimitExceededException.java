@@ -0,0 +1,21 @@
+package com.objectstorage.exception;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Formatter;
+
+/**
+ * Represents exception used when concurrently processed content requests limit is exceeded.
+ */
+public class ContentAdmissionLimitExceededException extends IOException {
+    public ContentAdmissionLimitExceededException() {
+        this("");
+    }
+
+    public ContentAdmissionLimitExceededException(Object... message) {
+        super(
+                new Formatter()
+                        .format("Content requests admission limit is exceeded: %s", Arrays.stream(message).toArray())
+                        .toString());
+    }
+}
@@ -0,0 +1,21 @@
+package com.objectstorage.exception;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Formatter;
+
+/**
+ * Represents exception used when content object was not modified since the given conditions.
+ */
+public class ContentObjectNotModifiedException extends IOException {
+    public ContentObjectNotModifiedException() {
+        this("");
+    }
+
+    public ContentObjectNotModifiedException(Object... message) {
+        super(
+                new Formatter()
+                        .format("Content object was not modified: %s", Arrays.stream(message).toArray())
+                        .toString());
+    }
+}
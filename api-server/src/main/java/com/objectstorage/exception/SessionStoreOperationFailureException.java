@@ -0,0 +1,21 @@
+package com.objectstorage.exception;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Formatter;
+
+/**
+ * Represents exception used when secrets session store operation fails.
+ */
+public class SessionStoreOperationFailureException extends IOException {
+    public SessionStoreOperationFailureException() {
+        this("");
+    }
+
+    public SessionStoreOperationFailureException(Object... message) {
+        super(
+                new Formatter()
+                        .format("Session store operation failed: %s", Arrays.stream(message).toArray())
+                        .toString());
+    }
+}
@@ -0,0 +1,21 @@
+package com.objectstorage.exception;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Formatter;
+
+/**
+ * Represents exception used when tracing exporter creation fails.
+ */
+public class TracingExporterCreationFailureException extends IOException {
+    public TracingExporterCreationFailureException() {
+        this("");
+    }
+
+    public TracingExporterCreationFailureException(Object... message) {
+        super(
+                new Formatter()
+                        .format("Tracing exporter creation failed: %s", Arrays.stream(message).toArray())
+                        .toString());
+    }
+}
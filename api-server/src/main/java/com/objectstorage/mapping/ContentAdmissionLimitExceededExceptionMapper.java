@@ -0,0 +1,25 @@
+package com.objectstorage.mapping;
+
+import com.objectstorage.entity.common.PropertiesEntity;
+import com.objectstorage.exception.ContentAdmissionLimitExceededException;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+
+/** Represents mapper for ContentAdmissionLimitExceededException exception. */
+@Provider
+public class ContentAdmissionLimitExceededExceptionMapper
+        implements ExceptionMapper<ContentAdmissionLimitExceededException> {
+    @Inject
+    PropertiesEntity properties;
+
+    @Override
+    public Response toResponse(ContentAdmissionLimitExceededException e) {
+        return Response.status(Response.Status.SERVICE_UNAVAILABLE.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, properties.getContentAdmissionRetryAfter())
+                .entity(e.getMessage())
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.objectstorage.mapping;
+
+import com.objectstorage.exception.ContentObjectNotModifiedException;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+
+/** Represents mapper for ContentObjectNotModifiedException exception. */
+@Provider
+public class ContentObjectNotModifiedExceptionMapper
+        implements ExceptionMapper<ContentObjectNotModifiedException> {
+    @Override
+    public Response toResponse(ContentObjectNotModifiedException e) {
+        return Response.status(Response.Status.NOT_MODIFIED.getStatusCode())
+                .build();
+    }
+}
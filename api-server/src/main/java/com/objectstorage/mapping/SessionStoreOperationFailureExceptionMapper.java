@@ -0,0 +1,18 @@
+package com.objectstorage.mapping;
+
+import com.objectstorage.exception.SessionStoreOperationFailureException;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+
+/** Represents mapper for SessionStoreOperationFailureException exception. */
+@Provider
+public class SessionStoreOperationFailureExceptionMapper
+        implements ExceptionMapper<SessionStoreOperationFailureException> {
+    @Override
+    public Response toResponse(SessionStoreOperationFailureException e) {
+        return Response.status(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode())
+                .entity(e.getMessage())
+                .build();
+    }
+}
\ No newline at end of file
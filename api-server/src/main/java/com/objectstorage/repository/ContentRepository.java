@@ -2,21 +2,17 @@ package com.objectstorage.repository;
 
 import com.objectstorage.entity.common.PropertiesEntity;
 import com.objectstorage.entity.repository.ContentEntity;
-import com.objectstorage.entity.repository.ProviderEntity;
 import com.objectstorage.exception.QueryEmptyResultException;
 import com.objectstorage.exception.QueryExecutionFailureException;
 import com.objectstorage.exception.RepositoryOperationFailureException;
+import com.objectstorage.repository.cache.RepositoryCacheService;
 import com.objectstorage.repository.executor.RepositoryExecutor;
 import io.quarkus.runtime.annotations.RegisterForReflection;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
-import javax.sql.DataSource;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Objects;
 
 /**
  * Represents repository implementation to handle content table.
@@ -30,6 +26,9 @@ public class ContentRepository {
     @Inject
     RepositoryExecutor repositoryExecutor;
 
+    @Inject
+    RepositoryCacheService repositoryCacheService;
+
     /**
      * Inserts given values into the content table.
      *
@@ -39,16 +38,17 @@ public class ContentRepository {
      * @throws RepositoryOperationFailureException if operation execution fails.
      */
     public void insert(Integer provider, Integer secret, String root) throws RepositoryOperationFailureException {
-        String query = String.format(
-                "INSERT INTO %s (provider, secret, root) VALUES (%d, %d, '%s')",
-                properties.getDatabaseContentTableName(),
-                provider,
-                secret,
-                root);
+        repositoryCacheService.invalidate();
+        repositoryExecutor.afterCompletion(repositoryCacheService::invalidate);
 
         try {
-            repositoryExecutor.performQuery(query);
-
+            repositoryExecutor.performPreparedQuery(
+                    String.format(
+                            "INSERT INTO %s (provider, secret, root) VALUES (?, ?, ?)",
+                            properties.getDatabaseContentTableName()),
+                    provider,
+                    secret,
+                    root);
         } catch (QueryExecutionFailureException e) {
             throw new RepositoryOperationFailureException(e.getMessage());
         }
@@ -62,61 +62,31 @@ public class ContentRepository {
      */
     public ContentEntity findByProviderAndSecret(Integer provider, Integer secret) throws
             RepositoryOperationFailureException {
-        ResultSet resultSet;
+        String key = String.format("%d:%d", provider, secret);
 
-        try {
-            resultSet =
-                    repositoryExecutor.performQueryWithResult(
-                            String.format(
-                                    "SELECT t.id, t.root FROM %s as t WHERE t.provider = %d AND t.secret = %d",
-                                    properties.getDatabaseContentTableName(),
-                                    provider,
-                                    secret));
-
-        } catch (QueryExecutionFailureException | QueryEmptyResultException e) {
-            throw new RepositoryOperationFailureException(e.getMessage());
+        ContentEntity content = repositoryCacheService.getContent(key);
+        if (Objects.nonNull(content)) {
+            return content;
         }
 
-        try {
-            if (resultSet.next()) {
-                try {
-                    Integer id = resultSet.getInt("id");
-                    String root = resultSet.getString("root");
-
-                    try {
-                        resultSet.close();
-                    } catch (SQLException e) {
-                        throw new RepositoryOperationFailureException(e.getMessage());
-                    }
-
-                    return ContentEntity.of(id, provider, secret, root);
-                } catch (SQLException e1) {
-                    try {
-                        resultSet.close();
-                    } catch (SQLException e2) {
-                        throw new RepositoryOperationFailureException(e2.getMessage());
-                    }
-
-                    throw new RepositoryOperationFailureException(e1.getMessage());
-                }
-            }
-        } catch (SQLException e1) {
-            try {
-                resultSet.close();
-            } catch (SQLException e2) {
-                throw new RepositoryOperationFailureException(e2.getMessage());
-            }
-
-            throw new RepositoryOperationFailureException(e1.getMessage());
-        }
+        long generation = repositoryCacheService.getGeneration();
 
         try {
-            resultSet.close();
-        } catch (SQLException e) {
+            content = repositoryExecutor.performPreparedQueryWithResult(
+                    String.format(
+                            "SELECT t.id, t.root FROM %s as t WHERE t.provider = ? AND t.secret = ?",
+                            properties.getDatabaseContentTableName()),
+                    resultSet -> ContentEntity.of(
+                            resultSet.getInt("id"), provider, secret, resultSet.getString("root")),
+                    provider,
+                    secret).getFirst();
+        } catch (QueryExecutionFailureException | QueryEmptyResultException e) {
             throw new RepositoryOperationFailureException(e.getMessage());
         }
 
-        return null;
+        repositoryCacheService.addContent(key, content, generation);
+
+        return content;
     }
 
     /**
@@ -126,46 +96,19 @@ public class ContentRepository {
      * @throws RepositoryOperationFailureException if repository operation fails.
      */
     public List<ContentEntity> findAll() throws RepositoryOperationFailureException {
-        ResultSet resultSet;
-
         try {
-            resultSet =
-                    repositoryExecutor.performQueryWithResult(
-                            String.format(
-                                    "SELECT t.id, t.root, t.provider, t.secret FROM %s as t",
-                                    properties.getDatabaseContentTableName()));
-
+            return repositoryExecutor.performPreparedQueryWithResult(
+                    String.format(
+                            "SELECT t.id, t.root, t.provider, t.secret FROM %s as t",
+                            properties.getDatabaseContentTableName()),
+                    resultSet -> ContentEntity.of(
+                            resultSet.getInt("id"),
+                            resultSet.getInt("provider"),
+                            resultSet.getInt("secret"),
+                            resultSet.getString("root")));
         } catch (QueryExecutionFailureException | QueryEmptyResultException e) {
             throw new RepositoryOperationFailureException(e.getMessage());
         }
-
-        List<ContentEntity> result = new ArrayList<>();
-
-        Integer id;
-        String root;
-        Integer provider;
-        Integer secret;
-
-        try {
-            while (resultSet.next()) {
-                id = resultSet.getInt("id");
-                root = resultSet.getString("root");
-                provider = resultSet.getInt("provider");
-                secret = resultSet.getInt("secret");
-
-                result.add(ContentEntity.of(id, provider, secret, root));
-            }
-        } catch (SQLException e) {
-            throw new RepositoryOperationFailureException(e.getMessage());
-        }
-
-        try {
-            resultSet.close();
-        } catch (SQLException e) {
-            throw new RepositoryOperationFailureException(e.getMessage());
-        }
-
-        return result;
     }
 
     /**
@@ -176,14 +119,16 @@ public class ContentRepository {
      * @throws RepositoryOperationFailureException if operation execution fails.
      */
     public void deleteByProviderAndSecret(Integer provider, Integer secret) throws RepositoryOperationFailureException {
+        repositoryCacheService.invalidate();
+        repositoryExecutor.afterCompletion(repositoryCacheService::invalidate);
+
         try {
-            repositoryExecutor.performQuery(
+            repositoryExecutor.performPreparedQuery(
                     String.format(
-                            "DELETE FROM %s as t WHERE t.provider = %d AND t.secret = %d",
-                            properties.getDatabaseContentTableName(),
-                            provider,
-                            secret));
-
+                            "DELETE FROM %s as t WHERE t.provider = ? AND t.secret = ?",
+                            properties.getDatabaseContentTableName()),
+                    provider,
+                    secret);
         } catch (QueryExecutionFailureException e) {
             throw new RepositoryOperationFailureException(e.getMessage());
         }
@@ -1,19 +1,17 @@
 package com.objectstorage.repository;
 
 import com.objectstorage.entity.common.PropertiesEntity;
-import com.objectstorage.entity.repository.ConfigEntity;
 import com.objectstorage.entity.repository.ProviderEntity;
 import com.objectstorage.exception.QueryEmptyResultException;
 import com.objectstorage.exception.QueryExecutionFailureException;
 import com.objectstorage.exception.RepositoryOperationFailureException;
+import com.objectstorage.repository.cache.RepositoryCacheService;
 import com.objectstorage.repository.executor.RepositoryExecutor;
 import io.quarkus.runtime.annotations.RegisterForReflection;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
-import javax.sql.DataSource;
-import java.sql.ResultSet;
-import java.sql.SQLException;
+import java.util.Objects;
 
 /**
  * Represents repository implementation to handle provider table.
@@ -27,6 +25,9 @@ public class ProviderRepository {
     @Inject
     RepositoryExecutor repositoryExecutor;
 
+    @Inject
+    RepositoryCacheService repositoryCacheService;
+
     /**
      * Attempts to retrieve provider entity by the given name.
      *
@@ -35,59 +36,27 @@ public class ProviderRepository {
      * @throws RepositoryOperationFailureException if repository operation fails.
      */
     public ProviderEntity findByName(String name) throws RepositoryOperationFailureException {
-        ResultSet resultSet;
-
-        try {
-            resultSet =
-                    repositoryExecutor.performQueryWithResult(
-                            String.format(
-                                    "SELECT t.id FROM %s as t WHERE t.name = '%s'",
-                                    properties.getDatabaseProviderTableName(),
-                                    name));
-
-        } catch (QueryExecutionFailureException | QueryEmptyResultException e) {
-            throw new RepositoryOperationFailureException(e.getMessage());
-        }
-
-        try {
-            if (resultSet.next()) {
-                try {
-                    Integer id = resultSet.getInt("id");
-
-                    try {
-                        resultSet.close();
-                    } catch (SQLException e) {
-                        throw new RepositoryOperationFailureException(e.getMessage());
-                    }
+        String key = String.format("name:%s", name);
 
-                    return ProviderEntity.of(id, name);
-                } catch (SQLException e1) {
-                    try {
-                        resultSet.close();
-                    } catch (SQLException e2) {
-                        throw new RepositoryOperationFailureException(e2.getMessage());
-                    }
-
-                    throw new RepositoryOperationFailureException(e1.getMessage());
-                }
-            }
-        } catch (SQLException e1) {
-            try {
-                resultSet.close();
-            } catch (SQLException e2) {
-                throw new RepositoryOperationFailureException(e2.getMessage());
-            }
-
-            throw new RepositoryOperationFailureException(e1.getMessage());
+        ProviderEntity provider = repositoryCacheService.getProvider(key);
+        if (Objects.nonNull(provider)) {
+            return provider;
         }
 
         try {
-            resultSet.close();
-        } catch (SQLException e) {
+            provider = repositoryExecutor.performPreparedQueryWithResult(
+                    String.format(
+                            "SELECT t.id FROM %s as t WHERE t.name = ?",
+                            properties.getDatabaseProviderTableName()),
+                    resultSet -> ProviderEntity.of(resultSet.getInt("id"), name),
+                    name).getFirst();
+        } catch (QueryExecutionFailureException | QueryEmptyResultException e) {
             throw new RepositoryOperationFailureException(e.getMessage());
         }
 
-        return null;
+        repositoryCacheService.addProvider(key, provider);
+
+        return provider;
     }
 
     /**
@@ -98,58 +67,26 @@ public class ProviderRepository {
      * @throws RepositoryOperationFailureException if repository operation fails.
      */
     public ProviderEntity findById(Integer id) throws RepositoryOperationFailureException {
-        ResultSet resultSet;
-
-        try {
-            resultSet =
-                    repositoryExecutor.performQueryWithResult(
-                            String.format(
-                                    "SELECT t.name FROM %s as t WHERE t.id = '%s'",
-                                    properties.getDatabaseProviderTableName(),
-                                    id));
-
-        } catch (QueryExecutionFailureException | QueryEmptyResultException e) {
-            throw new RepositoryOperationFailureException(e.getMessage());
-        }
+        String key = String.format("id:%d", id);
 
-        try {
-            if (resultSet.next()) {
-                try {
-                    String name = resultSet.getString("name");
-
-                    try {
-                        resultSet.close();
-                    } catch (SQLException e) {
-                        throw new RepositoryOperationFailureException(e.getMessage());
-                    }
-
-                    return ProviderEntity.of(id, name);
-                } catch (SQLException e1) {
-                    try {
-                        resultSet.close();
-                    } catch (SQLException e2) {
-                        throw new RepositoryOperationFailureException(e2.getMessage());
-                    }
-
-                    throw new RepositoryOperationFailureException(e1.getMessage());
-                }
-            }
-        } catch (SQLException e1) {
-            try {
-                resultSet.close();
-            } catch (SQLException e2) {
-                throw new RepositoryOperationFailureException(e2.getMessage());
-            }
-
-            throw new RepositoryOperationFailureException(e1.getMessage());
+        ProviderEntity provider = repositoryCacheService.getProvider(key);
+        if (Objects.nonNull(provider)) {
+            return provider;
         }
 
         try {
-            resultSet.close();
-        } catch (SQLException e) {
+            provider = repositoryExecutor.performPreparedQueryWithResult(
+                    String.format(
+                            "SELECT t.name FROM %s as t WHERE t.id = ?",
+                            properties.getDatabaseProviderTableName()),
+                    resultSet -> ProviderEntity.of(id, resultSet.getString("name")),
+                    id).getFirst();
+        } catch (QueryExecutionFailureException | QueryEmptyResultException e) {
             throw new RepositoryOperationFailureException(e.getMessage());
         }
 
-        return null;
+        repositoryCacheService.addProvider(key, provider);
+
+        return provider;
     }
 }
@@ -1,21 +1,18 @@
 package com.objectstorage.repository;
 
 import com.objectstorage.entity.common.PropertiesEntity;
-import com.objectstorage.entity.repository.ProviderEntity;
 import com.objectstorage.entity.repository.SecretEntity;
 import com.objectstorage.exception.QueryEmptyResultException;
 import com.objectstorage.exception.QueryExecutionFailureException;
 import com.objectstorage.exception.RepositoryOperationFailureException;
+import com.objectstorage.repository.common.RepositoryConfigurationHelper;
+import com.objectstorage.repository.cache.RepositoryCacheService;
 import com.objectstorage.repository.executor.RepositoryExecutor;
 import io.quarkus.runtime.annotations.RegisterForReflection;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
-import javax.sql.DataSource;
-import java.sql.*;
-import java.util.Optional;
+import java.util.Objects;
 
 /**
  * Represents repository implementation to handle secret table.
@@ -29,6 +26,9 @@ public class SecretRepository {
     @Inject
     RepositoryExecutor repositoryExecutor;
 
+    @Inject
+    RepositoryCacheService repositoryCacheService;
+
     /**
      * Inserts given values into the provider table.
      *
@@ -37,14 +37,17 @@ public class SecretRepository {
      * @throws RepositoryOperationFailureException if operation execution fails.
      */
     public void insert(Integer session, String credentials) throws RepositoryOperationFailureException {
-        String query = String.format(
-                "INSERT INTO %s (session, credentials) VALUES (%d, '%s')",
-                properties.getDatabaseSecretTableName(),
-                session,
-                credentials);
+        repositoryCacheService.invalidate();
+        repositoryExecutor.afterCompletion(repositoryCacheService::invalidate);
 
         try {
-            repositoryExecutor.performQuery(query);
+            repositoryExecutor.performPreparedQuery(
+                    String.format(
+                            "INSERT INTO %s (session, credentials, credentials_digest) VALUES (?, ?, ?)",
+                            properties.getDatabaseSecretTableName()),
+                    session,
+                    credentials,
+                    RepositoryConfigurationHelper.createCredentialsDigest(credentials));
         } catch (QueryExecutionFailureException e) {
             throw new RepositoryOperationFailureException(e.getMessage());
         }
@@ -59,28 +62,25 @@ public class SecretRepository {
      * @throws RepositoryOperationFailureException if repository operation fails.
      */
     public Boolean isPresentBySessionAndCredentials(Integer session, String credentials) throws RepositoryOperationFailureException {
-        String query = String.format(
-                "SELECT t.id FROM %s as t WHERE t.session = %d AND t.credentials = '%s'",
-                properties.getDatabaseSecretTableName(),
-                session,
-                credentials);
-
-        ResultSet resultSet;
+        if (Objects.nonNull(repositoryCacheService.getSecret(createSessionAndCredentialsKey(session, credentials)))) {
+            return true;
+        }
 
         try {
-            resultSet = repositoryExecutor.performQueryWithResult(query);
+            repositoryExecutor.performPreparedQueryWithResult(
+                    String.format(
+                            "SELECT t.id FROM %s as t WHERE t.session = ? AND t.credentials_digest = ? AND t.credentials = ?",
+                            properties.getDatabaseSecretTableName()),
+                    resultSet -> resultSet.getInt("id"),
+                    session,
+                    RepositoryConfigurationHelper.createCredentialsDigest(credentials),
+                    credentials);
         } catch (QueryEmptyResultException e) {
             return false;
         } catch (QueryExecutionFailureException e) {
             throw new RepositoryOperationFailureException(e.getMessage());
         }
 
-        try {
-            resultSet.close();
-        } catch (SQLException e) {
-            throw new RepositoryOperationFailureException(e.getMessage());
-        }
-
         return true;
     }
 
@@ -93,59 +93,32 @@ public class SecretRepository {
      * @throws RepositoryOperationFailureException if repository operation fails.
      */
     public SecretEntity findBySessionAndCredentials(Integer session, String credentials) throws RepositoryOperationFailureException {
-        String query = String.format(
-                "SELECT t.id FROM %s as t WHERE t.session = %d AND t.credentials = '%s'",
-                properties.getDatabaseSecretTableName(),
-                session,
-                credentials);
-
-        ResultSet resultSet;
+        String key = createSessionAndCredentialsKey(session, credentials);
 
-        try {
-            resultSet = repositoryExecutor.performQueryWithResult(query);
-        } catch (QueryExecutionFailureException | QueryEmptyResultException e) {
-            throw new RepositoryOperationFailureException(e.getMessage());
+        SecretEntity secret = repositoryCacheService.getSecret(key);
+        if (Objects.nonNull(secret)) {
+            return secret;
         }
 
-        try {
-            if (resultSet.next()) {
-                try {
-                    Integer id = resultSet.getInt("id");
-
-                    try {
-                        resultSet.close();
-                    } catch (SQLException e) {
-                        throw new RepositoryOperationFailureException(e.getMessage());
-                    }
-
-                    return SecretEntity.of(id, session, credentials);
-                } catch (SQLException e1) {
-                    try {
-                        resultSet.close();
-                    } catch (SQLException e2) {
-                        throw new RepositoryOperationFailureException(e2.getMessage());
-                    }
-
-                    throw new RepositoryOperationFailureException(e1.getMessage());
-                }
-            }
-        } catch (SQLException e1) {
-            try {
-                resultSet.close();
-            } catch (SQLException e2) {
-                throw new RepositoryOperationFailureException(e2.getMessage());
-            }
-
-            throw new RepositoryOperationFailureException(e1.getMessage());
-        }
+        long generation = repositoryCacheService.getGeneration();
 
         try {
-            resultSet.close();
-        } catch (SQLException e) {
+            secret = repositoryExecutor.performPreparedQueryWithResult(
+                    String.format(
+                            "SELECT t.id FROM %s as t WHERE t.session = ? AND t.credentials_digest = ? AND t.credentials = ?",
+                            properties.getDatabaseSecretTableName()),
+                    resultSet -> SecretEntity.of(resultSet.getInt("id"), session, credentials),
+                    session,
+                    RepositoryConfigurationHelper.createCredentialsDigest(credentials),
+                    credentials).getFirst();
+        } catch (QueryExecutionFailureException | QueryEmptyResultException e) {
             throw new RepositoryOperationFailureException(e.getMessage());
         }
 
-        return null;
+        repositoryCacheService.addSecret(key, secret, generation);
+        repositoryCacheService.addSecret(createIdKey(secret.getId()), secret, generation);
+
+        return secret;
     }
 
     /**
@@ -156,48 +129,30 @@ public class SecretRepository {
      * @throws RepositoryOperationFailureException if repository operation fails.
      */
     public SecretEntity findById(Integer id) throws RepositoryOperationFailureException {
-        ResultSet resultSet;
+        String key = createIdKey(id);
 
-        try {
-            resultSet = repositoryExecutor.performQueryWithResult(String.format(
-                    "SELECT t.session, t.credentials FROM %s as t WHERE t.id = %d",
-                    properties.getDatabaseSecretTableName(),
-                    id));
-
-        } catch (QueryExecutionFailureException | QueryEmptyResultException e) {
-            throw new RepositoryOperationFailureException(e.getMessage());
+        SecretEntity secret = repositoryCacheService.getSecret(key);
+        if (Objects.nonNull(secret)) {
+            return secret;
         }
 
-        try {
-            if (resultSet.next()) {
-                Integer session = resultSet.getInt("session");
-                String credentials = resultSet.getString("credentials");
-
-                try {
-                    resultSet.close();
-                } catch (SQLException e) {
-                    throw new RepositoryOperationFailureException(e.getMessage());
-                }
-
-                return SecretEntity.of(id, session, credentials);
-            }
-        } catch (SQLException e1) {
-            try {
-                resultSet.close();
-            } catch (SQLException e2) {
-                throw new RepositoryOperationFailureException(e2.getMessage());
-            }
-
-            throw new RepositoryOperationFailureException(e1.getMessage());
-        }
+        long generation = repositoryCacheService.getGeneration();
 
         try {
-            resultSet.close();
-        } catch (SQLException e) {
+            secret = repositoryExecutor.performPreparedQueryWithResult(
+                    String.format(
+                            "SELECT t.session, t.credentials FROM %s as t WHERE t.id = ?",
+                            properties.getDatabaseSecretTableName()),
+                    resultSet -> SecretEntity.of(
+                            id, resultSet.getInt("session"), resultSet.getString("credentials")),
+                    id).getFirst();
+        } catch (QueryExecutionFailureException | QueryEmptyResultException e) {
             throw new RepositoryOperationFailureException(e.getMessage());
         }
 
-        return null;
+        repositoryCacheService.addSecret(key, secret, generation);
+
+        return secret;
     }
 
     /**
@@ -207,15 +162,39 @@ public class SecretRepository {
      * @throws RepositoryOperationFailureException if operation execution fails.
      */
     public void deleteById(Integer id) throws RepositoryOperationFailureException {
+        repositoryCacheService.invalidate();
+        repositoryExecutor.afterCompletion(repositoryCacheService::invalidate);
+
         try {
-            repositoryExecutor.performQuery(
+            repositoryExecutor.performPreparedQuery(
                     String.format(
-                            "DELETE FROM %s as t WHERE t.id = %d",
-                            properties.getDatabaseSecretTableName(),
-                            id));
-
+                            "DELETE FROM %s as t WHERE t.id = ?",
+                            properties.getDatabaseSecretTableName()),
+                    id);
         } catch (QueryExecutionFailureException e) {
             throw new RepositoryOperationFailureException(e.getMessage());
         }
     }
+
+    /**
+     * Creates cache key of the secret entity with the given session and credentials.
+     *
+     * @param session given session of the secrets set.
+     * @param credentials given signature of external credentials.
+     * @return created cache key.
+     */
+    private String createSessionAndCredentialsKey(Integer session, String credentials) {
+        return String.format(
+                "session:%d:%s", session, RepositoryConfigurationHelper.createCredentialsDigest(credentials));
+    }
+
+    /**
+     * Creates cache key of the secret entity with the given identificator.
+     *
+     * @param id given identificator of the secrets set.
+     * @return created cache key.
+     */
+    private String createIdKey(Integer id) {
+        return String.format("id:%d", id);
+    }
 }
@@ -0,0 +1,112 @@
+package com.objectstorage.repository;
+
+import com.objectstorage.entity.common.PropertiesEntity;
+import com.objectstorage.entity.repository.SessionEntity;
+import com.objectstorage.exception.QueryEmptyResultException;
+import com.objectstorage.exception.QueryExecutionFailureException;
+import com.objectstorage.exception.RepositoryOperationFailureException;
+import com.objectstorage.repository.executor.RepositoryExecutor;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Represents repository implementation to handle session table.
+ */
+@ApplicationScoped
+@RegisterForReflection
+public class SessionRepository {
+    @Inject
+    PropertiesEntity properties;
+
+    @Inject
+    RepositoryExecutor repositoryExecutor;
+
+    /**
+     * Inserts given values into the session table.
+     *
+     * @param id given session key.
+     * @param data given serialized validation secrets application.
+     * @param expiresAt given expiration timestamp.
+     * @throws RepositoryOperationFailureException if operation execution fails.
+     */
+    public void insert(String id, String data, Long expiresAt) throws RepositoryOperationFailureException {
+        try {
+            repositoryExecutor.performPreparedQuery(
+                    String.format(
+                            "INSERT INTO %s (id, data, expires_at) VALUES (?, ?, ?)",
+                            properties.getDatabaseSessionTableName()),
+                    id,
+                    data,
+                    expiresAt);
+        } catch (QueryExecutionFailureException e) {
+            throw new RepositoryOperationFailureException(e.getMessage());
+        }
+    }
+
+    /**
+     * Attempts to retrieve session entity by the given session key, which is not expired at the given timestamp.
+     *
+     * @param id given session key.
+     * @param timestamp given current timestamp.
+     * @return retrieved session entity or null, if there is no such session.
+     * @throws RepositoryOperationFailureException if repository operation fails.
+     */
+    public SessionEntity findByIdAndNotExpired(String id, Long timestamp) throws RepositoryOperationFailureException {
+        try {
+            return repositoryExecutor.performPreparedQueryWithResult(
+                    String.format(
+                            "SELECT t.data, t.expires_at FROM %s as t WHERE t.id = ? AND t.expires_at > ?",
+                            properties.getDatabaseSessionTableName()),
+                    resultSet -> SessionEntity.of(id, resultSet.getString("data"), resultSet.getLong("expires_at")),
+                    id,
+                    timestamp).getFirst();
+        } catch (QueryEmptyResultException e) {
+            return null;
+        } catch (QueryExecutionFailureException e) {
+            throw new RepositoryOperationFailureException(e.getMessage());
+        }
+    }
+
+    /**
+     * Checks if session entity with the given session key is present.
+     *
+     * @param id given session key.
+     * @return result of the check.
+     * @throws RepositoryOperationFailureException if repository operation fails.
+     */
+    public Boolean isPresentById(String id) throws RepositoryOperationFailureException {
+        try {
+            repositoryExecutor.performPreparedQueryWithResult(
+                    String.format(
+                            "SELECT t.id FROM %s as t WHERE t.id = ?",
+                            properties.getDatabaseSessionTableName()),
+                    resultSet -> resultSet.getString("id"),
+                    id);
+        } catch (QueryEmptyResultException e) {
+            return false;
+        } catch (QueryExecutionFailureException e) {
+            throw new RepositoryOperationFailureException(e.getMessage());
+        }
+
+        return true;
+    }
+
+    /**
+     * Deletes all entities, which are expired at the given timestamp, from session table.
+     *
+     * @param timestamp given current timestamp.
+     * @throws RepositoryOperationFailureException if operation execution fails.
+     */
+    public void deleteExpired(Long timestamp) throws RepositoryOperationFailureException {
+        try {
+            repositoryExecutor.performPreparedQuery(
+                    String.format(
+                            "DELETE FROM %s as t WHERE t.expires_at <= ?",
+                            properties.getDatabaseSessionTableName()),
+                    timestamp);
+        } catch (QueryExecutionFailureException e) {
+            throw new RepositoryOperationFailureException(e.getMessage());
+        }
+    }
+}
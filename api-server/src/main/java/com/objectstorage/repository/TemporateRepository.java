@@ -1,22 +1,17 @@
 package com.objectstorage.repository;
 
+import com.objectstorage.dto.TemporatePendingUnitDto;
 import com.objectstorage.entity.common.PropertiesEntity;
-import com.objectstorage.entity.repository.ContentEntity;
 import com.objectstorage.entity.repository.TemporateEntity;
 import com.objectstorage.exception.QueryEmptyResultException;
 import com.objectstorage.exception.QueryExecutionFailureException;
 import com.objectstorage.exception.RepositoryOperationFailureException;
 import com.objectstorage.repository.executor.RepositoryExecutor;
-import com.objectstorage.service.config.ConfigService;
 import io.quarkus.runtime.annotations.RegisterForReflection;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 
 /**
@@ -28,9 +23,6 @@ public class TemporateRepository {
     @Inject
     PropertiesEntity properties;
 
-    @Inject
-    ConfigService configService;
-
     @Inject
     RepositoryExecutor repositoryExecutor;
 
@@ -42,95 +34,99 @@ public class TemporateRepository {
      * @param location given file location.
      * @param hash given file name hash.
      * @param createdAt given creation timestamp.
+     * @param traceParent given W3C trace context of the upload, which can be null.
      * @throws RepositoryOperationFailureException if operation execution fails.
      */
-    public void insert(Integer provider, Integer secret, String location, String hash, Long createdAt)
+    public void insert(
+            Integer provider, Integer secret, String location, String hash, Long createdAt, String traceParent)
             throws RepositoryOperationFailureException {
-        String query = String.format(
-                "INSERT INTO %s (provider, secret, location, hash, created_at) VALUES (%d, %d, '%s', '%s', %d)",
-                properties.getDatabaseTemporateTableName(),
-                provider,
-                secret,
-                location,
-                hash,
-                createdAt);
-
         try {
-            repositoryExecutor.performQuery(query);
-
+            repositoryExecutor.performPreparedQuery(
+                    String.format(
+                            "INSERT INTO %s (provider, secret, location, hash, created_at, trace_parent) VALUES (?, ?, ?, ?, ?, ?)",
+                            properties.getDatabaseTemporateTableName()),
+                    provider,
+                    secret,
+                    location,
+                    hash,
+                    createdAt,
+                    traceParent);
         } catch (QueryExecutionFailureException e) {
             throw new RepositoryOperationFailureException(e.getMessage());
         }
     }
 
     /**
-     * Retrieves amount of temporate content entities.
+     * Inserts given temporate entities into the temporate table within a single batch. Identificators of the given
+     * entities are ignored.
      *
-     * @return retrieved amount of temporate content entities.
-     * @throws RepositoryOperationFailureException if repository operation fails.
+     * @param temporates given temporate entities.
+     * @throws RepositoryOperationFailureException if operation execution fails.
      */
-    public Integer count() throws RepositoryOperationFailureException {
-        ResultSet resultSet;
-
+    public void insertAll(List<TemporateEntity> temporates) throws RepositoryOperationFailureException {
         try {
-            resultSet =
-                    repositoryExecutor.performQueryWithResult(
-                            String.format("SELECT COUNT(1) as result FROM %s", properties.getDatabaseTemporateTableName()));
-
-        } catch (QueryExecutionFailureException | QueryEmptyResultException e) {
+            repositoryExecutor.performPreparedBatchQuery(
+                    String.format(
+                            "INSERT INTO %s (provider, secret, location, hash, created_at, trace_parent) VALUES (?, ?, ?, ?, ?, ?)",
+                            properties.getDatabaseTemporateTableName()),
+                    temporates
+                            .stream()
+                            .map(element -> new Object[]{
+                                    element.getProvider(),
+                                    element.getSecret(),
+                                    element.getLocation(),
+                                    element.getHash(),
+                                    element.getCreatedAt(),
+                                    element.getTraceParent()})
+                            .toList());
+        } catch (QueryExecutionFailureException e) {
             throw new RepositoryOperationFailureException(e.getMessage());
         }
+    }
 
-        Integer count = 0;
-
+    /**
+     * Checks if any temporate content entity is present.
+     *
+     * @return result of the check.
+     * @throws RepositoryOperationFailureException if repository operation fails.
+     */
+    public Boolean isAnyPresent() throws RepositoryOperationFailureException {
         try {
-            if (resultSet.next()) {
-                switch (configService.getConfig().getInternalStorage().getProvider()) {
-                    case SQLITE3 -> {
-                        try {
-                            count = resultSet.getInt("result");
-                        } catch (SQLException e1) {
-                            try {
-                                resultSet.close();
-                            } catch (SQLException e2) {
-                                throw new RepositoryOperationFailureException(e2.getMessage());
-                            }
-
-                            throw new RepositoryOperationFailureException(e1.getMessage());
-                        }
-                    }
-                    case POSTGRES -> {
-                        try {
-                            count = (int) resultSet.getLong("result");
-                        } catch (SQLException e1) {
-                            try {
-                                resultSet.close();
-                            } catch (SQLException e2) {
-                                throw new RepositoryOperationFailureException(e2.getMessage());
-                            }
-
-                            throw new RepositoryOperationFailureException(e1.getMessage());
-                        }
-                    }
-                }
-            }
-        } catch (SQLException e1) {
-            try {
-                resultSet.close();
-            } catch (SQLException e2) {
-                throw new RepositoryOperationFailureException(e2.getMessage());
-            }
-
-            throw new RepositoryOperationFailureException(e1.getMessage());
+            repositoryExecutor.performPreparedQueryWithResult(
+                    String.format(
+                            "SELECT t.id FROM %s as t LIMIT 1",
+                            properties.getDatabaseTemporateTableName()),
+                    resultSet -> resultSet.getInt("id"));
+        } catch (QueryEmptyResultException e) {
+            return false;
+        } catch (QueryExecutionFailureException e) {
+            throw new RepositoryOperationFailureException(e.getMessage());
         }
 
+        return true;
+    }
+
+    /**
+     * Retrieves all the pending temporate content grouped by hash.
+     *
+     * @return retrieved pending temporate content units.
+     * @throws RepositoryOperationFailureException if repository operation fails.
+     */
+    public List<TemporatePendingUnitDto> findPendingUnits() throws RepositoryOperationFailureException {
         try {
-            resultSet.close();
-        } catch (SQLException e) {
+            return repositoryExecutor.performPreparedQueryWithResult(
+                    String.format(
+                            "SELECT t.hash, MIN(t.created_at) as created_at, COUNT(1) as amount FROM %s as t GROUP BY t.hash",
+                            properties.getDatabaseTemporateTableName()),
+                    resultSet -> TemporatePendingUnitDto.of(
+                            resultSet.getString("hash"),
+                            resultSet.getLong("created_at"),
+                            (int) resultSet.getLong("amount")));
+        } catch (QueryEmptyResultException e) {
+            return new ArrayList<>();
+        } catch (QueryExecutionFailureException e) {
             throw new RepositoryOperationFailureException(e.getMessage());
         }
-
-        return count;
     }
 
     /**
@@ -140,63 +136,22 @@ public class TemporateRepository {
      * @throws RepositoryOperationFailureException if repository operation fails.
      */
     public TemporateEntity findEarliest() throws RepositoryOperationFailureException {
-        ResultSet resultSet;
-
         try {
-            resultSet =
-                    repositoryExecutor.performQueryWithResult(
-                            String.format(
-                                    "SELECT t.id, t.provider, t.secret, t.location, t.hash, t.created_at FROM %s as t ORDER BY t.created_at DESC LIMIT 1",
-                                    properties.getDatabaseTemporateTableName()));
-
+            return repositoryExecutor.performPreparedQueryWithResult(
+                    String.format(
+                            "SELECT t.id, t.provider, t.secret, t.location, t.hash, t.created_at, t.trace_parent FROM %s as t ORDER BY t.created_at DESC LIMIT 1",
+                            properties.getDatabaseTemporateTableName()),
+                    resultSet -> TemporateEntity.of(
+                            resultSet.getInt("id"),
+                            resultSet.getInt("provider"),
+                            resultSet.getInt("secret"),
+                            resultSet.getString("location"),
+                            resultSet.getString("hash"),
+                            resultSet.getLong("created_at"),
+                            resultSet.getString("trace_parent"))).getFirst();
         } catch (QueryExecutionFailureException | QueryEmptyResultException e) {
             throw new RepositoryOperationFailureException(e.getMessage());
         }
-
-        try {
-            if (resultSet.next()) {
-                try {
-                    Integer id = resultSet.getInt("id");
-                    Integer provider = resultSet.getInt("provider");
-                    Integer secret = resultSet.getInt("secret");
-                    String location = resultSet.getString("location");
-                    String hash = resultSet.getString("hash");
-                    Long createdAt = resultSet.getLong("created_at");
-
-                    try {
-                        resultSet.close();
-                    } catch (SQLException e) {
-                        throw new RepositoryOperationFailureException(e.getMessage());
-                    }
-
-                    return TemporateEntity.of(id, provider, secret, location, hash, createdAt);
-                } catch (SQLException e1) {
-                    try {
-                        resultSet.close();
-                    } catch (SQLException e2) {
-                        throw new RepositoryOperationFailureException(e2.getMessage());
-                    }
-
-                    throw new RepositoryOperationFailureException(e1.getMessage());
-                }
-            }
-        } catch (SQLException e1) {
-            try {
-                resultSet.close();
-            } catch (SQLException e2) {
-                throw new RepositoryOperationFailureException(e2.getMessage());
-            }
-
-            throw new RepositoryOperationFailureException(e1.getMessage());
-        }
-
-        try {
-            resultSet.close();
-        } catch (SQLException e) {
-            throw new RepositoryOperationFailureException(e.getMessage());
-        }
-
-        return null;
     }
 
     /**
@@ -208,55 +163,23 @@ public class TemporateRepository {
      */
     public List<TemporateEntity> findByHash(String hash) throws
             RepositoryOperationFailureException {
-        ResultSet resultSet;
-
         try {
-            resultSet =
-                    repositoryExecutor.performQueryWithResult(
-                            String.format(
-                                    "SELECT t.id, t.location, t.provider, t.secret, t.created_at FROM %s as t WHERE t.hash = '%s'",
-                                    properties.getDatabaseTemporateTableName(),
-                                    hash));
-
+            return repositoryExecutor.performPreparedQueryWithResult(
+                    String.format(
+                            "SELECT t.id, t.location, t.provider, t.secret, t.created_at FROM %s as t WHERE t.hash = ?",
+                            properties.getDatabaseTemporateTableName()),
+                    resultSet -> TemporateEntity.of(
+                            resultSet.getInt("id"),
+                            resultSet.getInt("provider"),
+                            resultSet.getInt("secret"),
+                            resultSet.getString("location"),
+                            hash,
+                            resultSet.getLong("created_at"),
+                            null),
+                    hash);
         } catch (QueryExecutionFailureException | QueryEmptyResultException e) {
             throw new RepositoryOperationFailureException(e.getMessage());
         }
-
-        List<TemporateEntity> result = new ArrayList<>();
-
-        Integer id;
-        String location;
-        Integer provider;
-        Integer secret;
-        Long createdAt;
-
-        try {
-            while (resultSet.next()) {
-                id = resultSet.getInt("id");
-                location = resultSet.getString("location");
-                provider = resultSet.getInt("provider");
-                secret = resultSet.getInt("secret");
-                createdAt = resultSet.getLong("created_at");
-
-                result.add(TemporateEntity.of(id, provider, secret, location, hash, createdAt));
-            }
-        } catch (SQLException e1) {
-            try {
-                resultSet.close();
-            } catch (SQLException e2) {
-                throw new RepositoryOperationFailureException(e2.getMessage());
-            }
-
-            throw new RepositoryOperationFailureException(e1.getMessage());
-        }
-
-        try {
-            resultSet.close();
-        } catch (SQLException e) {
-            throw new RepositoryOperationFailureException(e.getMessage());
-        }
-
-        return result;
     }
 
     /**
@@ -270,63 +193,59 @@ public class TemporateRepository {
      */
     public TemporateEntity findEarliestByLocationProviderAndSecret(
             String location, Integer provider, Integer secret) throws RepositoryOperationFailureException {
-        ResultSet resultSet;
-
         try {
-            resultSet =
-                    repositoryExecutor.performQueryWithResult(
-                            String.format(
-                                    "SELECT t.id, t.hash, t.created_at FROM %s as t WHERE t.location = '%s' AND t.provider = %d AND t.secret = %d ORDER BY created_at DESC LIMIT 1",
-                                    properties.getDatabaseTemporateTableName(),
-                                    location,
-                                    provider,
-                                    secret));
-
+            return repositoryExecutor.performPreparedQueryWithResult(
+                    String.format(
+                            "SELECT t.id, t.hash, t.created_at FROM %s as t WHERE t.location = ? AND t.provider = ? AND t.secret = ? ORDER BY created_at DESC LIMIT 1",
+                            properties.getDatabaseTemporateTableName()),
+                    resultSet -> TemporateEntity.of(
+                            resultSet.getInt("id"),
+                            provider,
+                            secret,
+                            location,
+                            resultSet.getString("hash"),
+                            resultSet.getLong("created_at"),
+                            null),
+                    location,
+                    provider,
+                    secret).getFirst();
         } catch (QueryExecutionFailureException | QueryEmptyResultException e) {
             throw new RepositoryOperationFailureException(e.getMessage());
         }
+    }
 
+    /**
+     * Retrieves all the persisted temporate entities with the given location, provider and secret.
+     *
+     * @param location given location.
+     * @param provider given provider.
+     * @param secret given secret.
+     * @return retrieved temporate entities.
+     * @throws RepositoryOperationFailureException if repository operation fails.
+     */
+    public List<TemporateEntity> findByLocationProviderAndSecret(
+            String location, Integer provider, Integer secret) throws RepositoryOperationFailureException {
         try {
-            if (resultSet.next()) {
-                try {
-                    Integer id = resultSet.getInt("id");
-                    String hash = resultSet.getString("hash");
-                    Long createdAt = resultSet.getLong("created_at");
-
-                    try {
-                        resultSet.close();
-                    } catch (SQLException e) {
-                        throw new RepositoryOperationFailureException(e.getMessage());
-                    }
-
-                    return TemporateEntity.of(id, provider, secret, location, hash, createdAt);
-                } catch (SQLException e1) {
-                    try {
-                        resultSet.close();
-                    } catch (SQLException e2) {
-                        throw new RepositoryOperationFailureException(e2.getMessage());
-                    }
-
-                    throw new RepositoryOperationFailureException(e1.getMessage());
-                }
-            }
-        } catch (SQLException e1) {
-            try {
-                resultSet.close();
-            } catch (SQLException e2) {
-                throw new RepositoryOperationFailureException(e2.getMessage());
-            }
-
-            throw new RepositoryOperationFailureException(e1.getMessage());
-        }
-
-        try {
-            resultSet.close();
-        } catch (SQLException e) {
+            return repositoryExecutor.performPreparedQueryWithResult(
+                    String.format(
+                            "SELECT t.id, t.hash, t.created_at FROM %s as t WHERE t.location = ? AND t.provider = ? AND t.secret = ?",
+                            properties.getDatabaseTemporateTableName()),
+                    resultSet -> TemporateEntity.of(
+                            resultSet.getInt("id"),
+                            provider,
+                            secret,
+                            location,
+                            resultSet.getString("hash"),
+                            resultSet.getLong("created_at"),
+                            null),
+                    location,
+                    provider,
+                    secret);
+        } catch (QueryEmptyResultException e) {
+            return new ArrayList<>();
+        } catch (QueryExecutionFailureException e) {
             throw new RepositoryOperationFailureException(e.getMessage());
         }
-
-        return null;
     }
 
     /**
@@ -339,54 +258,24 @@ public class TemporateRepository {
      */
     public List<TemporateEntity> findByProviderAndSecret(Integer provider, Integer secret) throws
             RepositoryOperationFailureException {
-        ResultSet resultSet;
-
         try {
-            resultSet =
-                    repositoryExecutor.performQueryWithResult(
-                            String.format(
-                                    "SELECT t.id, t.location, t.hash, t.created_at FROM %s as t WHERE t.provider = %d AND t.secret = %d",
-                                    properties.getDatabaseTemporateTableName(),
-                                    provider,
-                                    secret));
-
+            return repositoryExecutor.performPreparedQueryWithResult(
+                    String.format(
+                            "SELECT t.id, t.location, t.hash, t.created_at FROM %s as t WHERE t.provider = ? AND t.secret = ?",
+                            properties.getDatabaseTemporateTableName()),
+                    resultSet -> TemporateEntity.of(
+                            resultSet.getInt("id"),
+                            provider,
+                            secret,
+                            resultSet.getString("location"),
+                            resultSet.getString("hash"),
+                            resultSet.getLong("created_at"),
+                            null),
+                    provider,
+                    secret);
         } catch (QueryExecutionFailureException | QueryEmptyResultException e) {
             throw new RepositoryOperationFailureException(e.getMessage());
         }
-
-        List<TemporateEntity> result = new ArrayList<>();
-
-        Integer id;
-        String location;
-        String hash;
-        Long createdAt;
-
-        try {
-            while (resultSet.next()) {
-                id = resultSet.getInt("id");
-                location = resultSet.getString("location");
-                hash = resultSet.getString("hash");
-                createdAt = resultSet.getLong("created_at");
-
-                result.add(TemporateEntity.of(id, provider, secret, location, hash, createdAt));
-            }
-        } catch (SQLException e1) {
-            try {
-                resultSet.close();
-            } catch (SQLException e2) {
-                throw new RepositoryOperationFailureException(e2.getMessage());
-            }
-
-            throw new RepositoryOperationFailureException(e1.getMessage());
-        }
-
-        try {
-            resultSet.close();
-        } catch (SQLException e) {
-            throw new RepositoryOperationFailureException(e.getMessage());
-        }
-
-        return result;
     }
 
     /**
@@ -400,14 +289,13 @@ public class TemporateRepository {
     public void deleteByLocationProviderAndSecret(String location, Integer provider, Integer secret)
             throws RepositoryOperationFailureException {
         try {
-            repositoryExecutor.performQuery(
+            repositoryExecutor.performPreparedQuery(
                     String.format(
-                            "DELETE FROM %s as t WHERE t.location = '%s' AND t.provider = %d AND t.secret = %d",
-                            properties.getDatabaseTemporateTableName(),
-                            location,
-                            provider,
-                            secret));
-
+                            "DELETE FROM %s as t WHERE t.location = ? AND t.provider = ? AND t.secret = ?",
+                            properties.getDatabaseTemporateTableName()),
+                    location,
+                    provider,
+                    secret);
         } catch (QueryExecutionFailureException e) {
             throw new RepositoryOperationFailureException(e.getMessage());
         }
@@ -421,12 +309,11 @@ public class TemporateRepository {
      */
     public void deleteByHash(String hash) throws RepositoryOperationFailureException {
         try {
-            repositoryExecutor.performQuery(
+            repositoryExecutor.performPreparedQuery(
                     String.format(
-                            "DELETE FROM %s as t WHERE t.hash = '%s'",
-                            properties.getDatabaseTemporateTableName(),
-                            hash));
-
+                            "DELETE FROM %s as t WHERE t.hash = ?",
+                            properties.getDatabaseTemporateTableName()),
+                    hash);
         } catch (QueryExecutionFailureException e) {
             throw new RepositoryOperationFailureException(e.getMessage());
         }
@@ -441,13 +328,12 @@ public class TemporateRepository {
      */
     public void deleteByProviderAndSecret(Integer provider, Integer secret) throws RepositoryOperationFailureException {
         try {
-            repositoryExecutor.performQuery(
+            repositoryExecutor.performPreparedQuery(
                     String.format(
-                            "DELETE FROM %s as t WHERE t.provider = %d AND t.secret = %d",
-                            properties.getDatabaseTemporateTableName(),
-                            provider,
-                            secret));
-
+                            "DELETE FROM %s as t WHERE t.provider = ? AND t.secret = ?",
+                            properties.getDatabaseTemporateTableName()),
+                    provider,
+                    secret);
         } catch (QueryExecutionFailureException e) {
             throw new RepositoryOperationFailureException(e.getMessage());
         }
@@ -0,0 +1,163 @@
+package com.objectstorage.repository.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.objectstorage.entity.common.PropertiesEntity;
+import com.objectstorage.entity.repository.ContentEntity;
+import com.objectstorage.entity.repository.ProviderEntity;
+import com.objectstorage.entity.repository.SecretEntity;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents in-process cache of provider, secret and content entities. Provider entities are static, so they are
+ * never invalidated. Secret and content entities are invalidated on every modification. Each invalidation starts a
+ * new generation, and entities retrieved within a previous generation are not added to the cache, so entities read
+ * concurrently with modification never outlive it.
+ */
+@ApplicationScoped
+public class RepositoryCacheService implements MeterBinder {
+    @Inject
+    PropertiesEntity properties;
+
+    private Cache<String, ProviderEntity> providerCache;
+
+    private Cache<String, SecretEntity> secretCache;
+
+    private Cache<String, ContentEntity> contentCache;
+
+    private long generation = 0;
+
+    @PostConstruct
+    private void process() {
+        providerCache = CacheBuilder.newBuilder()
+                .maximumSize(properties.getDatabaseEntityCacheMaxSize())
+                .recordStats()
+                .build();
+
+        secretCache = CacheBuilder.newBuilder()
+                .expireAfterWrite(properties.getDatabaseEntityCacheTtl(), TimeUnit.MILLISECONDS)
+                .maximumSize(properties.getDatabaseEntityCacheMaxSize())
+                .recordStats()
+                .build();
+
+        contentCache = CacheBuilder.newBuilder()
+                .expireAfterWrite(properties.getDatabaseEntityCacheTtl(), TimeUnit.MILLISECONDS)
+                .maximumSize(properties.getDatabaseEntityCacheMaxSize())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Retrieves current cache generation, which should be captured before the entity is retrieved from the database.
+     *
+     * @return current cache generation.
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Retrieves cached provider entity by the given key.
+     *
+     * @param key given provider key.
+     * @return cached provider entity or null, if there is none.
+     */
+    public ProviderEntity getProvider(String key) {
+        return providerCache.getIfPresent(key);
+    }
+
+    /**
+     * Adds given provider entity to the cache.
+     *
+     * @param key given provider key.
+     * @param provider given provider entity.
+     */
+    public void addProvider(String key, ProviderEntity provider) {
+        providerCache.put(key, provider);
+    }
+
+    /**
+     * Retrieves cached secret entity by the given key.
+     *
+     * @param key given secret key.
+     * @return cached secret entity or null, if there is none.
+     */
+    public SecretEntity getSecret(String key) {
+        return secretCache.getIfPresent(key);
+    }
+
+    /**
+     * Adds given secret entity to the cache, if it was retrieved within the current generation.
+     *
+     * @param key given secret key.
+     * @param secret given secret entity.
+     * @param generation given generation captured before secret entity retrieval.
+     */
+    public synchronized void addSecret(String key, SecretEntity secret, long generation) {
+        if (this.generation == generation) {
+            secretCache.put(key, secret);
+        }
+    }
+
+    /**
+     * Retrieves cached content entity by the given key.
+     *
+     * @param key given content key.
+     * @return cached content entity or null, if there is none.
+     */
+    public ContentEntity getContent(String key) {
+        return contentCache.getIfPresent(key);
+    }
+
+    /**
+     * Adds given content entity to the cache, if it was retrieved within the current generation.
+     *
+     * @param key given content key.
+     * @param content given content entity.
+     * @param generation given generation captured before content entity retrieval.
+     */
+    public synchronized void addContent(String key, ContentEntity content, long generation) {
+        if (this.generation == generation) {
+            contentCache.put(key, content);
+        }
+    }
+
+    /**
+     * Invalidates all the cached secret and content entities, starting a new generation.
+     */
+    public synchronized void invalidate() {
+        generation++;
+
+        secretCache.invalidateAll();
+        contentCache.invalidateAll();
+    }
+
+    /**
+     * @see MeterBinder
+     */
+    @Override
+    public void bindTo(@NotNull MeterRegistry meterRegistry) {
+        Gauge.builder("general.repository_cache_hit_ratio", providerCache, element -> element.stats().hitRate())
+                .description("Represents hit ratio of the internal database entities cache")
+                .tag("entity", "provider")
+                .register(meterRegistry);
+
+        Gauge.builder("general.repository_cache_hit_ratio", secretCache, element -> element.stats().hitRate())
+                .description("Represents hit ratio of the internal database entities cache")
+                .tag("entity", "secret")
+                .register(meterRegistry);
+
+        Gauge.builder("general.repository_cache_hit_ratio", contentCache, element -> element.stats().hitRate())
+                .description("Represents hit ratio of the internal database entities cache")
+                .tag("entity", "content")
+                .register(meterRegistry);
+    }
+}
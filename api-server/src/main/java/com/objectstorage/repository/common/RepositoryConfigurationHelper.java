@@ -1,5 +1,6 @@
 package com.objectstorage.repository.common;
 
+import com.objectstorage.converter.DigestConverter;
 import com.objectstorage.model.CredentialsFieldsExternal;
 import com.objectstorage.model.CredentialsFieldsFull;
 import com.objectstorage.model.CredentialsFieldsInternal;
@@ -31,6 +32,16 @@ public class RepositoryConfigurationHelper {
         return result.toString();
     }
 
+    /**
+     * Creates fixed-length digest of the given external credentials signature, which is used for indexed lookups.
+     *
+     * @param credentials given external credentials signature.
+     * @return created credentials digest.
+     */
+    public static String createCredentialsDigest(String credentials) {
+        return DigestConverter.convert(credentials).toLowerCase();
+    }
+
     /**
      * Unpack given external credentials signature.
      *
@@ -53,7 +64,7 @@ public class RepositoryConfigurationHelper {
         return switch (provider) {
             case S3 -> packExternalCredentials(
                     credentialsFieldExternal.getFile(), credentialsFieldExternal.getRegion());
-            case GCS -> packExternalCredentials(credentialsFieldExternal.getFile());
+            case GCS, LOCAL -> packExternalCredentials(credentialsFieldExternal.getFile());
         };
     }
 
@@ -85,7 +96,7 @@ public class RepositoryConfigurationHelper {
                     CredentialsFieldsExternal.of(
                             credentials.get(0),
                             credentials.get(1)));
-            case GCS -> CredentialsFieldsFull.of(
+            case GCS, LOCAL -> CredentialsFieldsFull.of(
                     CredentialsFieldsInternal.of(session),
                     CredentialsFieldsExternal.of(
                             credentials.getFirst(),
@@ -3,8 +3,10 @@ package com.objectstorage.repository.executor;
 import com.objectstorage.entity.common.ConfigEntity;
 import com.objectstorage.entity.common.PropertiesEntity;
 import com.objectstorage.exception.*;
-import com.objectstorage.repository.common.RepositoryConfigurationHelper;
 import com.objectstorage.service.config.ConfigService;
+import com.objectstorage.service.telemetry.TelemetryService;
+import com.objectstorage.service.telemetry.tracing.TracingScope;
+import com.objectstorage.service.telemetry.tracing.TracingService;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -15,18 +17,34 @@ import org.apache.logging.log4j.Logger;
 import javax.sql.DataSource;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
- * Service used to perform low-level database related operations.
+ * Service used to perform low-level database related operations. Connections are borrowed from the datasource pool
+ * for each operation. Queries performed outside of transaction use their own connection, while queries performed
+ * within a transaction use the connection bound to the calling thread until the transaction is completed. Prepared
+ * statements are cached for each physical connection, so they are reused across the borrowings of this connection.
+ * For tuned SQLite internal storage all the writes are performed via a single dedicated connection, while pooled
+ * connections are used for reads only.
  */
 @ApplicationScoped
 public class RepositoryExecutor {
     private static final Logger logger = LogManager.getLogger(RepositoryExecutor.class);
 
+    /**
+     * Represents pattern of the query verb and the target table, used to compose statement names.
+     */
+    private static final Pattern STATEMENT_NAME_PATTERN = Pattern.compile(
+            "^\\s*(SELECT|INSERT|UPDATE|DELETE)\\b(?:.*?\\b(?:FROM|INTO)\\b)?\\s+(\\w+)",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
     @Inject
     PropertiesEntity properties;
 
@@ -36,190 +54,660 @@ public class RepositoryExecutor {
     @Inject
     DataSource dataSource;
 
-    private Connection connection;
+    @Inject
+    TelemetryService telemetryService;
+
+    @Inject
+    TracingService tracingService;
+
+    /**
+     * Represents connection dedicated to all the writes, if tuned SQLite internal storage is configured.
+     */
+    private Connection writerConnection;
+
+    /**
+     * Represents transaction scope bound to the calling thread.
+     */
+    private final ThreadLocal<TransactionScope> transactionScope = new ThreadLocal<>();
+
+    /**
+     * Represents guard used to allow only a single writer at a time for internal storages, which do not support
+     * concurrent writes. It's held for the whole transaction, so transactions should never wrap vendor or workspace
+     * operations.
+     */
+    private final ReentrantLock writerGuard = new ReentrantLock(true);
+
+    /**
+     * Represents statement names of the already performed queries.
+     */
+    private final ConcurrentHashMap<String, String> statementNames = new ConcurrentHashMap<>();
+
+    /**
+     * Represents prepared statements cached for each physical connection.
+     */
+    private final ConcurrentHashMap<Connection, StatementCache> statementCaches = new ConcurrentHashMap<>();
+
+    /**
+     * Represents mapper of the single result row.
+     *
+     * @param <T> type of the mapped row.
+     */
+    @FunctionalInterface
+    public interface RowMapper<T> {
+        /**
+         * Maps current row of the given result.
+         *
+         * @param resultSet given result positioned at the row to be mapped.
+         * @return mapped row.
+         * @throws SQLException if row values retrieval fails.
+         */
+        T map(ResultSet resultSet) throws SQLException;
+    }
+
+    /**
+     * Represents operation performed with the given prepared statement.
+     *
+     * @param <T> type of the operation result.
+     */
+    @FunctionalInterface
+    private interface StatementOperation<T> {
+        /**
+         * Performs operation with the given prepared statement.
+         *
+         * @param statement given prepared statement.
+         * @return operation result.
+         * @throws SQLException if operation fails.
+         */
+        T perform(PreparedStatement statement) throws SQLException;
+    }
+
+    /**
+     * Represents connection borrowed for the time of a single transaction.
+     */
+    private static class TransactionScope {
+        private final Connection connection;
+
+        private final List<Runnable> completionCallbacks = new ArrayList<>();
 
-    private final static List<Statement> statements = new ArrayList<>();
+        private final Boolean writerLocked;
 
-    private final static ScheduledExecutorService scheduledExecutorService =
-            Executors.newSingleThreadScheduledExecutor();
+        private TransactionScope(Connection connection, Boolean writerLocked) {
+            this.connection = connection;
+            this.writerLocked = writerLocked;
+        }
+    }
 
     /**
-     * Configures remote database connection.
+     * Represents prepared statements of a single physical connection, which are kept open between the borrowings of
+     * this connection from the pool. Connection is used by a single thread at a time, so the least recently used
+     * statements order is not synchronized.
+     */
+    private static class StatementCache {
+        private final Map<String, PreparedStatement> preparedStatements = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Configures dedicated writer connection, if tuned SQLite internal storage is configured.
      *
      * @throws QueryExecutionFailureException if connection retrieval fails.
      */
     @PostConstruct
     private void configure() throws QueryExecutionFailureException {
+        if (!isDedicatedWriter()) {
+            return;
+        }
+
         try {
-            this.connection = dataSource.getConnection();
+            writerConnection = dataSource.getConnection();
         } catch (SQLException e) {
             throw new QueryExecutionFailureException(e.getMessage());
         }
+
+        performQuery(writerConnection, "PRAGMA query_only = 0");
     }
 
     /**
-     * Performs given SQL query via given connection without result.
+     * Closes cached prepared statements and dedicated writer connection, if it is configured.
+     */
+    @PreDestroy
+    private void close() {
+        statementCaches.values().forEach(
+                element -> element.preparedStatements.values().forEach(this::closePreparedStatement));
+
+        statementCaches.clear();
+
+        if (Objects.nonNull(writerConnection)) {
+            try {
+                writerConnection.close();
+            } catch (SQLException e) {
+                logger.fatal(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Performs given SQL query via given connection without result, closing the statement right after execution.
      *
      * @param connection given SQL connection.
      * @param query given SQL query to be executed.
-     * @param databaseStatementCloseDelay given database statement close delay.
      * @throws QueryExecutionFailureException if query execution is interrupted by failure.
      */
-    public static void performQuery(Connection connection, String query, Integer databaseStatementCloseDelay)
-            throws QueryExecutionFailureException {
-        Statement statement;
-
-        try {
-            statement = connection.createStatement();
+    public static void performQuery(Connection connection, String query) throws QueryExecutionFailureException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(query);
         } catch (SQLException e) {
             throw new QueryExecutionFailureException(e.getMessage());
         }
+    }
 
-        statements.add(statement);
+    /**
+     * Performs given parameterized SQL query without result.
+     *
+     * @param query given parameterized SQL query to be executed.
+     * @param parameters given values of the query parameters.
+     * @throws QueryExecutionFailureException if query execution is interrupted by failure.
+     */
+    public void performPreparedQuery(String query, Object... parameters) throws QueryExecutionFailureException {
+        performOperation(query, true, statement -> {
+            bindParameters(statement, parameters);
 
-        try {
-            statement.executeUpdate(query);
-        } catch (SQLException e) {
-            throw new QueryExecutionFailureException(e.getMessage());
+            return statement.executeUpdate();
+        });
+    }
+
+    /**
+     * Performs given parameterized SQL query for each of the given parameters sets within a single batch.
+     *
+     * @param query given parameterized SQL query to be executed.
+     * @param parameters given values of the query parameters for each batch entry.
+     * @throws QueryExecutionFailureException if query execution is interrupted by failure.
+     */
+    public void performPreparedBatchQuery(String query, List<Object[]> parameters)
+            throws QueryExecutionFailureException {
+        if (parameters.isEmpty()) {
+            return;
         }
 
-        scheduledExecutorService.schedule(() -> {
-            try {
-                statement.close();
-            } catch (SQLException e) {
-                logger.fatal(new QueryExecutionFailureException(e.getMessage()).getMessage());
+        performOperation(query, true, statement -> {
+            for (Object[] values : parameters) {
+                bindParameters(statement, values);
+
+                statement.addBatch();
             }
-        }, databaseStatementCloseDelay, TimeUnit.MILLISECONDS);
+
+            return statement.executeBatch();
+        });
     }
 
     /**
-     * Performs given SQL query without result.
+     * Performs given parameterized SQL query and maps each of the result rows with the given row mapper. Result is
+     * fully consumed and closed before the statement is released.
      *
-     * @param query given SQL query to be executed.
+     * @param query given parameterized SQL query to be executed.
+     * @param rowMapper given mapper of the single result row.
+     * @param parameters given values of the query parameters.
+     * @return mapped result rows.
      * @throws QueryExecutionFailureException if query execution is interrupted by failure.
+     * @throws QueryEmptyResultException if result is empty.
      */
-    public void performQuery(String query) throws QueryExecutionFailureException {
-        performQuery(this.connection, query, properties.getDatabaseStatementCloseDelay());
+    public <T> List<T> performPreparedQueryWithResult(String query, RowMapper<T> rowMapper, Object... parameters)
+            throws QueryExecutionFailureException, QueryEmptyResultException {
+        List<T> result = performOperation(query, false, statement -> {
+            bindParameters(statement, parameters);
+
+            List<T> rows = new ArrayList<>();
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                telemetryService.increaseOpenDatabaseCursors();
+
+                try {
+                    while (resultSet.next()) {
+                        rows.add(rowMapper.map(resultSet));
+                    }
+                } finally {
+                    telemetryService.decreaseOpenDatabaseCursors();
+                }
+            }
+
+            return rows;
+        });
+
+        if (result.isEmpty()) {
+            throw new QueryEmptyResultException();
+        }
+
+        return result;
     }
 
     /**
-     * Performs given SQL query and returns raw result.
+     * Performs given operation with the prepared statement for the given query, recording its duration tagged by the
+     * statement name.
      *
-     * @param query given SQL query to be executed.
-     * @return retrieved raw result.
+     * @param query given parameterized SQL query.
+     * @param write given flag, which indicates whether the operation modifies the data.
+     * @param operation given operation to be performed.
+     * @return operation result.
      * @throws QueryExecutionFailureException if query execution is interrupted by failure.
-     * @throws QueryEmptyResultException if result is empty.
      */
-    public ResultSet performQueryWithResult(String query) throws QueryExecutionFailureException, QueryEmptyResultException {
-        Statement statement;
+    private <T> T performOperation(String query, Boolean write, StatementOperation<T> operation)
+            throws QueryExecutionFailureException {
+        String statementName = getStatementName(query);
+
+        long start = System.nanoTime();
+
+        try (TracingScope ignored = tracingService.startScope(String.format("repository.%s", statementName))) {
+            return performStatementOperation(query, write, operation);
+        } finally {
+            telemetryService.recordRepositoryQuery(statementName, start);
+        }
+    }
+
+    /**
+     * Retrieves statement name of the given query, which consists of the lowercase query verb and the target table,
+     * e.g. "select:temporate".
+     *
+     * @param query given parameterized SQL query.
+     * @return retrieved statement name.
+     */
+    private String getStatementName(String query) {
+        return statementNames.computeIfAbsent(query, key -> {
+            Matcher matcher = STATEMENT_NAME_PATTERN.matcher(key);
+
+            if (matcher.find()) {
+                return String.format(
+                        "%s:%s", matcher.group(1).toLowerCase(), matcher.group(2).toLowerCase());
+            }
+
+            return "other";
+        });
+    }
+
+    /**
+     * Performs given operation with the prepared statement for the given query. Within a transaction, connection bound
+     * to the calling thread is used. Otherwise, a separate connection is acquired and released right after the
+     * operation. In both cases statement is taken from the cache of the physical connection and kept there for reuse.
+     *
+     * @param query given parameterized SQL query.
+     * @param write given flag, which indicates whether the operation modifies the data.
+     * @param operation given operation to be performed.
+     * @return operation result.
+     * @throws QueryExecutionFailureException if query execution is interrupted by failure.
+     */
+    private <T> T performStatementOperation(String query, Boolean write, StatementOperation<T> operation)
+            throws QueryExecutionFailureException {
+        TransactionScope scope = transactionScope.get();
+
+        if (Objects.nonNull(scope)) {
+            try {
+                return performCachedStatementOperation(scope.connection, query, operation);
+            } catch (SQLException e) {
+                throw new QueryExecutionFailureException(e.getMessage());
+            }
+        }
+
+        Boolean writerLocked = write && isSingleWriter();
+
+        if (writerLocked) {
+            writerGuard.lock();
+        }
 
         try {
-            statement = this.connection.createStatement();
+            Connection connection = acquireConnection(write);
+
+            try {
+                return performCachedStatementOperation(connection, query, operation);
+            } finally {
+                releaseConnection(connection);
+            }
         } catch (SQLException e) {
             throw new QueryExecutionFailureException(e.getMessage());
+        } finally {
+            if (writerLocked) {
+                writerGuard.unlock();
+            }
         }
+    }
+
+    /**
+     * Performs given operation with the prepared statement for the given query, taken from the cache of the given
+     * connection. Statement, which operation failed, is removed from the cache and closed.
+     *
+     * @param connection given connection.
+     * @param query given parameterized SQL query.
+     * @param operation given operation to be performed.
+     * @return operation result.
+     * @throws SQLException if operation fails.
+     */
+    private <T> T performCachedStatementOperation(
+            Connection connection, String query, StatementOperation<T> operation) throws SQLException {
+        StatementCache cache = acquireStatementCache(connection);
 
-        statements.add(statement);
+        PreparedStatement statement = acquirePreparedStatement(cache, connection, query);
 
-        ResultSet resultSet;
+        T result;
 
         try {
-            resultSet = statement.executeQuery(query);
+            result = operation.perform(statement);
         } catch (SQLException e) {
-            throw new QueryExecutionFailureException(e.getMessage());
+            cache.preparedStatements.remove(query);
+
+            closePreparedStatement(statement);
+
+            throw e;
         }
 
-        scheduledExecutorService.schedule(() -> {
+        statement.clearParameters();
+
+        return result;
+    }
+
+    /**
+     * Retrieves prepared statements cache of the physical connection behind the given connection, creating a new one,
+     * if there is none. Caches of the connections, which were already closed by the pool, are removed at this point.
+     *
+     * @param connection given connection.
+     * @return retrieved prepared statements cache.
+     * @throws SQLException if physical connection retrieval fails.
+     */
+    private StatementCache acquireStatementCache(Connection connection) throws SQLException {
+        Connection physicalConnection = connection.unwrap(Connection.class);
+
+        StatementCache cache = statementCaches.get(physicalConnection);
+
+        if (Objects.isNull(cache)) {
+            removeClosedStatementCaches();
+
+            cache = new StatementCache();
+
+            statementCaches.put(physicalConnection, cache);
+        }
+
+        return cache;
+    }
+
+    /**
+     * Removes prepared statements caches of the connections, which were already closed by the pool.
+     */
+    private void removeClosedStatementCaches() {
+        statementCaches.entrySet().removeIf(entry -> {
             try {
-                statement.close();
+                if (!entry.getKey().isClosed()) {
+                    return false;
+                }
             } catch (SQLException e) {
-                logger.fatal(new QueryExecutionFailureException(e.getMessage()).getMessage());
+                logger.fatal(e.getMessage());
             }
-        }, properties.getDatabaseStatementCloseDelay(), TimeUnit.MILLISECONDS);
 
+            entry.getValue().preparedStatements.values().forEach(
+                    element -> telemetryService.decreaseOpenDatabaseStatements());
+
+            return true;
+        });
+    }
+
+    /**
+     * Retrieves prepared statement for the given query from the given prepared statements cache, preparing a new one
+     * on the physical connection behind the given connection, if there is none. Statements prepared this way are not
+     * tracked by the pool, so they remain open after the connection is returned. When the cache already holds the
+     * maximum amount of statements, the least recently used one is closed.
+     *
+     * @param cache given prepared statements cache.
+     * @param connection given connection.
+     * @param query given parameterized SQL query.
+     * @return prepared statement.
+     * @throws SQLException if statement preparation fails.
+     */
+    private PreparedStatement acquirePreparedStatement(StatementCache cache, Connection connection, String query)
+            throws SQLException {
+        PreparedStatement statement = cache.preparedStatements.get(query);
+
+        if (Objects.nonNull(statement)) {
+            return statement;
+        }
+
+        if (!cache.preparedStatements.isEmpty() &&
+                cache.preparedStatements.size() >= properties.getDatabaseStatementCacheSize()) {
+            Map.Entry<String, PreparedStatement> eldest = cache.preparedStatements.entrySet().iterator().next();
+
+            cache.preparedStatements.remove(eldest.getKey());
+
+            closePreparedStatement(eldest.getValue());
+        }
+
+        statement = connection.unwrap(Connection.class).prepareStatement(query);
+
+        telemetryService.increaseOpenDatabaseStatements();
+
+        cache.preparedStatements.put(query, statement);
+
+        return statement;
+    }
+
+    /**
+     * Closes given prepared statement.
+     *
+     * @param statement given prepared statement.
+     */
+    private void closePreparedStatement(PreparedStatement statement) {
         try {
-            if (!resultSet.isBeforeFirst()) {
-                resultSet.close();
+            statement.close();
+        } catch (SQLException e) {
+            logger.fatal(new QueryExecutionFailureException(e.getMessage()).getMessage());
+        }
 
-                throw new QueryEmptyResultException();
-            }
+        telemetryService.decreaseOpenDatabaseStatements();
+    }
+
+    /**
+     * Binds given values to the parameters of the given prepared statement.
+     *
+     * @param statement given prepared statement.
+     * @param parameters given values of the query parameters.
+     * @throws SQLException if parameter binding fails.
+     */
+    private static void bindParameters(PreparedStatement statement, Object... parameters) throws SQLException {
+        for (int i = 0; i < parameters.length; i++) {
+            statement.setObject(i + 1, parameters[i]);
+        }
+    }
+
+    /**
+     * Checks if configured internal storage allows only a single writer at a time.
+     *
+     * @return result of the check.
+     */
+    private Boolean isSingleWriter() {
+        return configService.getConfig().getInternalStorage().getProvider() ==
+                ConfigEntity.InternalStorage.Provider.SQLITE3;
+    }
+
+    /**
+     * Checks if configured internal storage uses a dedicated writer connection together with a pool of read-only
+     * reader connections.
+     *
+     * @return result of the check.
+     */
+    private Boolean isDedicatedWriter() {
+        return isSingleWriter() && Objects.nonNull(configService.getConfig().getInternalStorage().getSqlite3());
+    }
+
+    /**
+     * Acquires connection for a single operation. Writes use the dedicated writer connection, if it is configured,
+     * while reads borrow a connection from the pool, which is switched to read-only mode in this case.
+     *
+     * @param write given flag, which indicates whether the operation modifies the data.
+     * @return acquired connection.
+     * @throws SQLException if connection acquisition fails.
+     */
+    private Connection acquireConnection(Boolean write) throws SQLException {
+        if (!isDedicatedWriter()) {
+            return dataSource.getConnection();
+        }
+
+        if (write) {
+            return writerConnection;
+        }
+
+        Connection connection = dataSource.getConnection();
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA query_only = 1");
         } catch (SQLException e) {
-            throw new QueryExecutionFailureException(e.getMessage());
+            releaseConnection(connection);
+
+            throw e;
         }
 
-        return resultSet;
+        return connection;
     }
 
     /**
-     * Begins new transaction.
+     * Releases given connection, returning it to the pool, unless it is the dedicated writer connection.
+     *
+     * @param connection given connection.
+     */
+    private void releaseConnection(Connection connection) {
+        if (connection == writerConnection) {
+            return;
+        }
+
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.fatal(e.getMessage());
+        }
+    }
+
+    /**
+     * Registers given callback to be executed after the transaction of the calling thread is either committed or
+     * rolled back. If there is no transaction in progress, callback is executed immediately.
+     *
+     * @param callback given callback.
+     */
+    public void afterCompletion(Runnable callback) {
+        TransactionScope scope = transactionScope.get();
+
+        if (Objects.isNull(scope)) {
+            callback.run();
+        } else {
+            scope.completionCallbacks.add(callback);
+        }
+    }
+
+    /**
+     * Begins new transaction, binding acquired connection to the calling thread.
      *
      * @throws TransactionInitializationFailureException if transaction initialization fails.
      */
     public void beginTransaction() throws TransactionInitializationFailureException {
+        if (Objects.nonNull(transactionScope.get())) {
+            throw new TransactionInitializationFailureException("transaction is already in progress");
+        }
+
+        Boolean writerLocked = isSingleWriter();
+
+        if (writerLocked) {
+            writerGuard.lock();
+        }
+
+        Connection connection;
+
         try {
-            this.connection.setAutoCommit(false);
+            connection = acquireConnection(true);
         } catch (SQLException e) {
+            if (writerLocked) {
+                writerGuard.unlock();
+            }
+
             throw new TransactionInitializationFailureException(e.getMessage());
         }
+
+        try {
+            connection.setAutoCommit(false);
+        } catch (SQLException e1) {
+            releaseConnection(connection);
+
+            if (writerLocked) {
+                writerGuard.unlock();
+            }
+
+            throw new TransactionInitializationFailureException(e1.getMessage());
+        }
+
+        transactionScope.set(new TransactionScope(connection, writerLocked));
     }
 
     /**
-     * Commits previously initialized transaction.
+     * Commits previously initialized transaction, releasing connection bound to the calling thread.
      *
      * @throws TransactionCommitFailureException if transaction commit fails.
      */
     public void commitTransaction() throws TransactionCommitFailureException {
-        try {
-            this.connection.commit();
-        } catch (SQLException e) {
-            throw new TransactionCommitFailureException(e.getMessage());
+        TransactionScope scope = transactionScope.get();
+
+        if (Objects.isNull(scope)) {
+            throw new TransactionCommitFailureException("transaction is not in progress");
         }
 
         try {
-            this.connection.setAutoCommit(true);
+            scope.connection.commit();
         } catch (SQLException e) {
+            try {
+                scope.connection.rollback();
+            } catch (SQLException ignored) {
+            }
+
+            releaseTransactionScope(scope);
+
             throw new TransactionCommitFailureException(e.getMessage());
         }
+
+        releaseTransactionScope(scope);
     }
 
     /**
-     * Rollbacks previously initialized transaction.
+     * Rollbacks previously initialized transaction, releasing connection bound to the calling thread.
      *
      * @throws TransactionRollbackFailureException if transaction rollback fails.
      */
     public void rollbackTransaction() throws TransactionRollbackFailureException {
-        try {
-            this.connection.rollback();
-        } catch (SQLException e) {
-            throw new TransactionRollbackFailureException(e.getMessage());
+        TransactionScope scope = transactionScope.get();
+
+        if (Objects.isNull(scope)) {
+            throw new TransactionRollbackFailureException("transaction is not in progress");
         }
 
         try {
-            this.connection.setAutoCommit(true);
+            scope.connection.rollback();
         } catch (SQLException e) {
+            releaseTransactionScope(scope);
+
             throw new TransactionRollbackFailureException(e.getMessage());
         }
+
+        releaseTransactionScope(scope);
     }
 
     /**
-     * Closes opened database connection.
+     * Returns connection of the given transaction scope to the pool.
+     *
+     * @param scope given transaction scope.
      */
-    @PreDestroy
-    private void close() {
-        statements.forEach(element -> {
-            try {
-                if (!element.isClosed()) {
-                    element.close();
-                }
-            } catch (SQLException e) {
-                logger.fatal(new QueryExecutionFailureException(e.getMessage()).getMessage());
-            }
-        });
+    private void releaseTransactionScope(TransactionScope scope) {
+        transactionScope.remove();
 
         try {
-            this.connection.close();
+            scope.connection.setAutoCommit(true);
         } catch (SQLException e) {
             logger.fatal(e.getMessage());
         }
+
+        releaseConnection(scope.connection);
+
+        if (scope.writerLocked) {
+            writerGuard.unlock();
+        }
+
+        scope.completionCallbacks.forEach(Runnable::run);
     }
 }
@@ -9,7 +9,7 @@ import com.objectstorage.exception.*;
 import com.objectstorage.model.*;
 import com.objectstorage.repository.*;
 import com.objectstorage.repository.common.RepositoryConfigurationHelper;
-import com.objectstorage.service.telemetry.TelemetryService;
+import com.objectstorage.service.telemetry.tracing.TracingService;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
@@ -43,7 +43,7 @@ public class RepositoryFacade {
     SecretRepository secretRepository;
 
     @Inject
-    TelemetryService telemetryService;
+    TracingService tracingService;
 
     /**
      * Retrieves filtered content from temporate repository.
@@ -95,17 +95,26 @@ public class RepositoryFacade {
      * @throws TemporateContentRetrievalFailureException if temporate content amount retrieval fails.
      */
     public Boolean isTemporateContentPresent() throws TemporateContentRetrievalFailureException {
-        Integer amount;
-
         try {
-            amount = temporateRepository.count();
+            return temporateRepository.isAnyPresent();
         } catch (RepositoryOperationFailureException e) {
             throw new TemporateContentRetrievalFailureException(e.getMessage());
         }
+    }
 
-        telemetryService.setTemporateStorageFilesAmount(amount);
-
-        return amount > 0;
+    /**
+     * Retrieves all the pending temporate content grouped by hash.
+     *
+     * @return retrieved pending temporate content units.
+     * @throws TemporateContentRetrievalFailureException if pending temporate content retrieval fails.
+     */
+    public List<TemporatePendingUnitDto> retrievePendingTemporateContent()
+            throws TemporateContentRetrievalFailureException {
+        try {
+            return temporateRepository.findPendingUnits();
+        } catch (RepositoryOperationFailureException e) {
+            throw new TemporateContentRetrievalFailureException(e.getMessage());
+        }
     }
 
     /**
@@ -183,7 +192,8 @@ public class RepositoryFacade {
                 contentCompoundUnits,
                 temporateEntity.getLocation(),
                 temporateEntity.getHash(),
-                temporateEntity.getCreatedAt());
+                temporateEntity.getCreatedAt(),
+                temporateEntity.getTraceParent());
     }
 
     /**
@@ -244,6 +254,58 @@ public class RepositoryFacade {
                 temporate.getCreatedAt());
     }
 
+    /**
+     * Retrieves all the temporate content from the temporate repository with the given location, provider and secret.
+     *
+     * @param location given temporate content location.
+     * @param validationSecretsUnit given validation secrets unit.
+     * @return retrieved temporate content.
+     * @throws TemporateContentRemovalFailureException if temporate content retrieval fails.
+     */
+    public List<TemporateContentUnitDto> retrieveAllTemporateContentByLocationProviderAndSecret(
+            String location, ValidationSecretsUnit validationSecretsUnit)
+            throws TemporateContentRemovalFailureException {
+        ProviderEntity provider;
+
+        try {
+            provider = providerRepository.findByName(validationSecretsUnit.getProvider().toString());
+        } catch (RepositoryOperationFailureException e) {
+            throw new TemporateContentRemovalFailureException(e.getMessage());
+        }
+
+        String signature = repositoryConfigurationHelper.getExternalCredentials(
+                validationSecretsUnit.getProvider(),
+                validationSecretsUnit.getCredentials().getExternal());
+
+        SecretEntity secret;
+
+        try {
+            secret = secretRepository.findBySessionAndCredentials(
+                    validationSecretsUnit.getCredentials().getInternal().getId(),
+                    signature);
+        } catch (RepositoryOperationFailureException e) {
+            throw new TemporateContentRemovalFailureException(e.getMessage());
+        }
+
+        List<TemporateEntity> temporates;
+
+        try {
+            temporates = temporateRepository.findByLocationProviderAndSecret(
+                    location, provider.getId(), secret.getId());
+        } catch (RepositoryOperationFailureException e) {
+            throw new TemporateContentRemovalFailureException(e.getMessage());
+        }
+
+        return temporates.stream()
+                .map(element -> TemporateContentUnitDto.of(
+                        element.getProvider(),
+                        element.getSecret(),
+                        element.getLocation(),
+                        element.getHash(),
+                        element.getCreatedAt()))
+                .toList();
+    }
+
     /**
      * Retrieves content application from the content repository.
      *
@@ -553,15 +615,23 @@ public class RepositoryFacade {
     }
 
     /**
-     * Applies given temporate upload application.
+     * Applies given temporate upload application for each of the given validation secrets units, persisting all the
+     * temporate records within a single batch.
      *
      * @param location given object location.
      * @param hash given object hash.
-     * @param validationSecretsUnit given validation secrets unit.
+     * @param validationSecretsUnits given validation secrets units.
      * @throws RepositoryContentApplicationFailureException if ObjectStorage repository content application failed.
      */
-    public void upload(String location, String hash, ValidationSecretsUnit validationSecretsUnit)
+    public void upload(String location, String hash, List<ValidationSecretsUnit> validationSecretsUnits)
             throws RepositoryContentApplicationFailureException {
+        Long createdAt = Instant.now().getEpochSecond();
+
+        String traceParent = tracingService.getTraceParent();
+
+        List<TemporateEntity> temporates = new ArrayList<>();
+
+        for (ValidationSecretsUnit validationSecretsUnit : validationSecretsUnits) {
             ProviderEntity provider;
 
             try {
@@ -593,11 +663,14 @@ public class RepositoryFacade {
                 throw new RepositoryContentApplicationFailureException(e.getMessage());
             }
 
-            try {
-                temporateRepository.insert(
-                        provider.getId(), secret.getId(), location, hash, Instant.now().getEpochSecond());
-            } catch (RepositoryOperationFailureException e) {
-                throw new RepositoryContentApplicationFailureException(e.getMessage());
-            }
+            temporates.add(TemporateEntity.of(
+                    null, provider.getId(), secret.getId(), location, hash, createdAt, traceParent));
+        }
+
+        try {
+            temporateRepository.insertAll(temporates);
+        } catch (RepositoryOperationFailureException e) {
+            throw new RepositoryContentApplicationFailureException(e.getMessage());
+        }
     }
 }
@@ -0,0 +1,93 @@
+package com.objectstorage.repository.migration;
+
+import com.objectstorage.repository.common.RepositoryConfigurationHelper;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Represents migration used to fill credentials digest column of the already persisted secret entities.
+ */
+@RegisterForReflection
+public class CredentialsDigestMigration implements CustomTaskChange {
+    /**
+     * @see CustomTaskChange
+     */
+    @Override
+    public void execute(Database database) throws CustomChangeException {
+        JdbcConnection connection = (JdbcConnection) database.getConnection();
+
+        Map<Integer, String> digests = new LinkedHashMap<>();
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT t.id, t.credentials FROM secret as t WHERE t.credentials IS NOT NULL");
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                digests.put(
+                        resultSet.getInt("id"),
+                        RepositoryConfigurationHelper.createCredentialsDigest(resultSet.getString("credentials")));
+            }
+        } catch (DatabaseException | SQLException e) {
+            throw new CustomChangeException(e.getMessage());
+        }
+
+        if (digests.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "UPDATE secret SET credentials_digest = ? WHERE id = ?")) {
+            for (Map.Entry<Integer, String> digest : digests.entrySet()) {
+                statement.setString(1, digest.getValue());
+                statement.setInt(2, digest.getKey());
+
+                statement.addBatch();
+            }
+
+            statement.executeBatch();
+        } catch (DatabaseException | SQLException e) {
+            throw new CustomChangeException(e.getMessage());
+        }
+    }
+
+    /**
+     * @see CustomTaskChange
+     */
+    @Override
+    public String getConfirmationMessage() {
+        return "Credentials digests of persisted secrets were filled";
+    }
+
+    /**
+     * @see CustomTaskChange
+     */
+    @Override
+    public void setUp() {
+    }
+
+    /**
+     * @see CustomTaskChange
+     */
+    @Override
+    public void setFileOpener(ResourceAccessor resourceAccessor) {
+    }
+
+    /**
+     * @see CustomTaskChange
+     */
+    @Override
+    public ValidationErrors validate(Database database) {
+        return new ValidationErrors();
+    }
+}
@@ -1,18 +1,33 @@
 package com.objectstorage.resource;
 
 import com.objectstorage.api.ContentResourceApi;
+import com.objectstorage.dto.ContentObjectDto;
+import com.objectstorage.dto.ContentObjectMetadataDto;
+import com.objectstorage.exception.ContentObjectNotModifiedException;
 import com.objectstorage.exception.RootIsNotValidException;
 import com.objectstorage.model.*;
+import com.objectstorage.resource.common.ResourceAdmissionHelper;
 import com.objectstorage.resource.common.ResourceConfigurationHelper;
 import com.objectstorage.service.processor.ProcessorService;
+import com.objectstorage.service.telemetry.tracing.Traced;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import io.vertx.core.http.HttpServerResponse;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import lombok.SneakyThrows;
 
 import java.io.InputStream;
+import java.util.concurrent.Semaphore;
 
-/** Contains implementation of ContentResource. */
+/**
+ * Contains implementation of ContentResource. All the endpoints are executed on virtual threads, so blocking database,
+ * workspace and vendor operations don't occupy worker threads used by lightweight endpoints.
+ */
+@Traced
 @ApplicationScoped
+@RunOnVirtualThread
 public class ContentResource implements ContentResourceApi {
     @Inject
     ProcessorService processorService;
@@ -20,19 +35,37 @@ public class ContentResource implements ContentResourceApi {
     @Inject
     ResourceConfigurationHelper resourceConfigurationHelper;
 
+    @Inject
+    ResourceAdmissionHelper resourceAdmissionHelper;
+
+    @Context
+    HttpServerResponse httpServerResponse;
+
     /**
      * Implementation for declared in OpenAPI configuration v1ContentGet method.
      *
      * @param authorization given authorization header.
+     * @param limit given maximum amount of uploaded objects retrieved per provider.
+     * @param continuationToken given continuation token of the previous page.
+     * @param prefix given prefix of the retrieved content locations.
      * @return retrieved content result.
      */
     @Override
     @SneakyThrows
-    public ContentRetrievalResult v1ContentGet(String authorization) {
-        ValidationSecretsApplication validationSecretsApplication =
-                resourceConfigurationHelper.getJwtDetails(authorization);
+    public ContentRetrievalResult v1ContentGet(
+            String authorization, Integer limit, String continuationToken, String prefix) {
+        Semaphore guard = resourceAdmissionHelper.getRetrievalGuard();
+
+        resourceAdmissionHelper.admit(guard);
+
+        try {
+            ValidationSecretsApplication validationSecretsApplication =
+                    resourceConfigurationHelper.getJwtDetails(authorization);
 
-        return processorService.retrieveContent(validationSecretsApplication);
+            return processorService.retrieveContent(validationSecretsApplication, prefix, limit, continuationToken);
+        } finally {
+            guard.release();
+        }
     }
 
     /**
@@ -44,14 +77,22 @@ public class ContentResource implements ContentResourceApi {
     @Override
     @SneakyThrows
     public void v1ContentApplyPost(String authorization, ContentApplication contentApplication) {
-        ValidationSecretsApplication validationSecretsApplication =
-                resourceConfigurationHelper.getJwtDetails(authorization);
+        Semaphore guard = resourceAdmissionHelper.getApplicationGuard();
 
-        if (!resourceConfigurationHelper.isRootDefinitionValid(contentApplication.getRoot())) {
-            throw new RootIsNotValidException();
-        }
+        resourceAdmissionHelper.admit(guard);
+
+        try {
+            ValidationSecretsApplication validationSecretsApplication =
+                    resourceConfigurationHelper.getJwtDetails(authorization);
 
-        processorService.apply(contentApplication, validationSecretsApplication);
+            if (!resourceConfigurationHelper.isRootDefinitionValid(contentApplication.getRoot())) {
+                throw new RootIsNotValidException();
+            }
+
+            processorService.apply(contentApplication, validationSecretsApplication);
+        } finally {
+            guard.release();
+        }
     }
 
     /**
@@ -62,10 +103,18 @@ public class ContentResource implements ContentResourceApi {
     @Override
     @SneakyThrows
     public void v1ContentWithdrawDelete(String authorization) {
-        ValidationSecretsApplication validationSecretsApplication =
-                resourceConfigurationHelper.getJwtDetails(authorization);
+        Semaphore guard = resourceAdmissionHelper.getApplicationGuard();
 
-        processorService.withdraw(validationSecretsApplication);
+        resourceAdmissionHelper.admit(guard);
+
+        try {
+            ValidationSecretsApplication validationSecretsApplication =
+                    resourceConfigurationHelper.getJwtDetails(authorization);
+
+            processorService.withdraw(validationSecretsApplication);
+        } finally {
+            guard.release();
+        }
     }
 
     /**
@@ -78,10 +127,18 @@ public class ContentResource implements ContentResourceApi {
     @Override
     @SneakyThrows
     public void v1ContentObjectUploadPost(String authorization, String location, InputStream file) {
-        ValidationSecretsApplication validationSecretsApplication =
-                resourceConfigurationHelper.getJwtDetails(authorization);
+        Semaphore guard = resourceAdmissionHelper.getUploadGuard();
+
+        resourceAdmissionHelper.admit(guard);
+
+        try {
+            ValidationSecretsApplication validationSecretsApplication =
+                    resourceConfigurationHelper.getJwtDetails(authorization);
 
-        processorService.uploadObject(location, file, validationSecretsApplication);
+            processorService.uploadObject(location, file, validationSecretsApplication);
+        } finally {
+            guard.release();
+        }
     }
 
     /**
@@ -89,20 +146,47 @@ public class ContentResource implements ContentResourceApi {
      *
      * @param authorization given authorization header.
      * @param contentObjectDownload content object download application.
+     * @param ifNoneMatch given conditional entity tag header.
+     * @param ifModifiedSince given conditional modification date header.
      * @return downloaded content object result.
      */
     @Override
     @SneakyThrows
-    public byte[] v1ContentObjectDownloadPost(String authorization, ContentObjectDownload contentObjectDownload) {
-        ValidationSecretsApplication validationSecretsApplication =
-                resourceConfigurationHelper.getJwtDetails(authorization);
+    public byte[] v1ContentObjectDownloadPost(
+            String authorization, ContentObjectDownload contentObjectDownload, String ifNoneMatch, String ifModifiedSince) {
+        Semaphore guard = resourceAdmissionHelper.getDownloadGuard();
+
+        resourceAdmissionHelper.admit(guard);
+
+        try {
+            ValidationSecretsApplication validationSecretsApplication =
+                    resourceConfigurationHelper.getJwtDetails(authorization);
+
+            ValidationSecretsUnit validationSecretsUnit =
+                    resourceConfigurationHelper.getConfiguredProvider(
+                            contentObjectDownload.getProvider(), validationSecretsApplication);
 
-        ValidationSecretsUnit validationSecretsUnit =
-                resourceConfigurationHelper.getConfiguredProvider(
-                        contentObjectDownload.getProvider(), validationSecretsApplication);
+            if (resourceConfigurationHelper.isConditionalRequest(ifNoneMatch, ifModifiedSince)) {
+                ContentObjectMetadataDto contentObjectMetadata = processorService.retrieveObjectMetadata(
+                        contentObjectDownload.getLocation(), validationSecretsUnit, validationSecretsApplication);
 
-        return processorService.downloadObject(
-                contentObjectDownload.getLocation(), validationSecretsUnit, validationSecretsApplication);
+                if (!resourceConfigurationHelper.isContentObjectModified(
+                        contentObjectMetadata, ifNoneMatch, ifModifiedSince)) {
+                    putContentObjectMetadataHeaders(contentObjectMetadata);
+
+                    throw new ContentObjectNotModifiedException();
+                }
+            }
+
+            ContentObjectDto contentObject = processorService.downloadObject(
+                    contentObjectDownload.getLocation(), validationSecretsUnit, validationSecretsApplication);
+
+            putContentObjectMetadataHeaders(contentObject.getMetadata());
+
+            return contentObject.getContent();
+        } finally {
+            guard.release();
+        }
     }
 
     /**
@@ -115,15 +199,23 @@ public class ContentResource implements ContentResourceApi {
     @Override
     @SneakyThrows
     public byte[] v1ContentBackupDownloadPost(String authorization, ContentBackupDownload contentBackupDownload) {
-        ValidationSecretsApplication validationSecretsApplication =
-                resourceConfigurationHelper.getJwtDetails(authorization);
+        Semaphore guard = resourceAdmissionHelper.getDownloadGuard();
 
-        ValidationSecretsUnit validationSecretsUnit =
-                resourceConfigurationHelper.getConfiguredProvider(
-                        contentBackupDownload.getProvider(), validationSecretsApplication);
+        resourceAdmissionHelper.admit(guard);
 
-        return processorService.downloadBackup(
-                contentBackupDownload.getLocation(), validationSecretsUnit, validationSecretsApplication);
+        try {
+            ValidationSecretsApplication validationSecretsApplication =
+                    resourceConfigurationHelper.getJwtDetails(authorization);
+
+            ValidationSecretsUnit validationSecretsUnit =
+                    resourceConfigurationHelper.getConfiguredProvider(
+                            contentBackupDownload.getProvider(), validationSecretsApplication);
+
+            return processorService.downloadBackup(
+                    contentBackupDownload.getLocation(), validationSecretsUnit, validationSecretsApplication);
+        } finally {
+            guard.release();
+        }
     }
 
     /**
@@ -135,10 +227,18 @@ public class ContentResource implements ContentResourceApi {
     @Override
     @SneakyThrows
     public void v1ContentObjectCleanDelete(String authorization, ContentCleanup contentCleanup) {
-        ValidationSecretsApplication validationSecretsApplication =
-                resourceConfigurationHelper.getJwtDetails(authorization);
+        Semaphore guard = resourceAdmissionHelper.getRemovalGuard();
+
+        resourceAdmissionHelper.admit(guard);
+
+        try {
+            ValidationSecretsApplication validationSecretsApplication =
+                    resourceConfigurationHelper.getJwtDetails(authorization);
 
-        processorService.removeObject(contentCleanup.getLocation(), validationSecretsApplication);
+            processorService.removeObject(contentCleanup.getLocation(), validationSecretsApplication);
+        } finally {
+            guard.release();
+        }
     }
 
     /**
@@ -149,9 +249,29 @@ public class ContentResource implements ContentResourceApi {
     @Override
     @SneakyThrows
     public void v1ContentCleanAllDelete(String authorization) {
-        ValidationSecretsApplication validationSecretsApplication =
-                resourceConfigurationHelper.getJwtDetails(authorization);
+        Semaphore guard = resourceAdmissionHelper.getRemovalGuard();
+
+        resourceAdmissionHelper.admit(guard);
+
+        try {
+            ValidationSecretsApplication validationSecretsApplication =
+                    resourceConfigurationHelper.getJwtDetails(authorization);
 
-        processorService.removeAll(validationSecretsApplication);
+            processorService.removeAll(validationSecretsApplication);
+        } finally {
+            guard.release();
+        }
+    }
+
+    /**
+     * Puts entity tag and modification date headers composed from the given content object metadata to the response.
+     *
+     * @param contentObjectMetadata given content object metadata.
+     */
+    private void putContentObjectMetadataHeaders(ContentObjectMetadataDto contentObjectMetadata) {
+        httpServerResponse.putHeader(
+                HttpHeaders.ETAG, resourceConfigurationHelper.composeEntityTag(contentObjectMetadata));
+        httpServerResponse.putHeader(
+                HttpHeaders.LAST_MODIFIED, resourceConfigurationHelper.composeLastModified(contentObjectMetadata));
     }
 }
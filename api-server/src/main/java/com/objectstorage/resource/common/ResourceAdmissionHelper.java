@@ -0,0 +1,72 @@
+package com.objectstorage.resource.common;
+
+import com.objectstorage.entity.common.PropertiesEntity;
+import com.objectstorage.exception.ContentAdmissionLimitExceededException;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.Getter;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Contains admission guards, which limit amount of concurrently processed requests of each content endpoint group,
+ * so slow transfers of one group can't starve the others.
+ */
+@ApplicationScoped
+public class ResourceAdmissionHelper {
+    @Inject
+    PropertiesEntity properties;
+
+    /**
+     * Represents admission guard of content retrieval requests.
+     */
+    @Getter
+    private Semaphore retrievalGuard;
+
+    /**
+     * Represents admission guard of content application and withdrawal requests.
+     */
+    @Getter
+    private Semaphore applicationGuard;
+
+    /**
+     * Represents admission guard of content object upload requests.
+     */
+    @Getter
+    private Semaphore uploadGuard;
+
+    /**
+     * Represents admission guard of content object and backup download requests.
+     */
+    @Getter
+    private Semaphore downloadGuard;
+
+    /**
+     * Represents admission guard of content removal requests.
+     */
+    @Getter
+    private Semaphore removalGuard;
+
+    @PostConstruct
+    private void process() {
+        retrievalGuard = new Semaphore(properties.getContentAdmissionRetrievalLimit());
+        applicationGuard = new Semaphore(properties.getContentAdmissionApplicationLimit());
+        uploadGuard = new Semaphore(properties.getContentAdmissionUploadLimit());
+        downloadGuard = new Semaphore(properties.getContentAdmissionDownloadLimit());
+        removalGuard = new Semaphore(properties.getContentAdmissionRemovalLimit());
+    }
+
+    /**
+     * Admits request with the help of the given admission guard without waiting. Admitted request should then release
+     * the given admission guard.
+     *
+     * @param guard given admission guard.
+     * @throws ContentAdmissionLimitExceededException if the given admission guard is saturated.
+     */
+    public void admit(Semaphore guard) throws ContentAdmissionLimitExceededException {
+        if (!guard.tryAcquire()) {
+            throw new ContentAdmissionLimitExceededException();
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.objectstorage.resource.common;
 
+import com.objectstorage.dto.ContentObjectMetadataDto;
 import com.objectstorage.entity.common.PropertiesEntity;
 import com.objectstorage.exception.ProviderIsNotConfiguredException;
 import com.objectstorage.exception.SecretsConversionException;
+import com.objectstorage.exception.SessionStoreOperationFailureException;
 import com.objectstorage.model.ValidationSecretsApplication;
 import com.objectstorage.model.ValidationSecretsUnit;
 import com.objectstorage.model.Provider;
@@ -10,15 +12,23 @@ import com.objectstorage.service.state.StateService;
 import com.objectstorage.exception.JwtVerificationFailureException;
 import com.objectstorage.exception.TimeLimitedCacheKeyNotFoundException;
 import com.objectstorage.service.secrets.cache.TimeLimitedCacheService;
+import com.objectstorage.service.secrets.cache.ValidationCacheService;
+import com.objectstorage.service.secrets.cache.VerifiedTokenCacheService;
 import com.objectstorage.service.vendor.VendorFacade;
 import io.smallrye.jwt.auth.principal.JWTParser;
 import io.smallrye.jwt.auth.principal.ParseException;
 import io.smallrye.jwt.build.Jwt;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -39,40 +49,65 @@ public class ResourceConfigurationHelper {
     @Inject
     TimeLimitedCacheService timeLimitedCacheService;
 
+    @Inject
+    ValidationCacheService validationCacheService;
+
+    @Inject
+    VerifiedTokenCacheService verifiedTokenCacheService;
+
     @Inject
     VendorFacade vendorFacade;
 
+    private Pattern jwtHeaderPattern;
+
+    @PostConstruct
+    private void process() {
+        jwtHeaderPattern = Pattern.compile(properties.getSecretsJwtHeaderNotation());
+    }
+
     /**
-     * Extracts jwt details from the given raw jwt token.
+     * Extracts jwt details from the given raw jwt token. Signature of recently verified tokens is not verified again
+     * until their expiration.
      *
      * @param rawToken provided raw jwt token.
      * @return retrieved jwt token details.
      * @throws JwtVerificationFailureException if jwt token verification fails.
+     * @throws SessionStoreOperationFailureException if session store operation fails.
      */
-    public ValidationSecretsApplication getJwtDetails(String rawToken) throws JwtVerificationFailureException {
-        Pattern pattern = Pattern.compile(properties.getSecretsJwtHeaderNotation());
-
-        Matcher matcher = pattern.matcher(rawToken);
+    public ValidationSecretsApplication getJwtDetails(String rawToken)
+            throws JwtVerificationFailureException, SessionStoreOperationFailureException {
+        Matcher matcher = jwtHeaderPattern.matcher(rawToken);
 
         if (!matcher.find()) {
             throw new JwtVerificationFailureException();
         }
 
+        String value = matcher.group(1);
+
+        ValidationSecretsApplication validationSecretsApplication = verifiedTokenCacheService.get(value);
+        if (Objects.nonNull(validationSecretsApplication)) {
+            return validationSecretsApplication;
+        }
+
         JsonWebToken token;
 
         try {
             token = jwtParser
-                    .verify(matcher.group(1), StateService.getJwtSecretKey());
+                    .verify(value, StateService.getJwtSecretKey());
         } catch (ParseException e) {
             throw new JwtVerificationFailureException(e.getMessage());
         }
 
         try {
-            return timeLimitedCacheService.get(
+            validationSecretsApplication = timeLimitedCacheService.get(
                     token.getClaim(properties.getSecretsJwtClaimsName()));
         } catch (TimeLimitedCacheKeyNotFoundException e) {
             throw new JwtVerificationFailureException(e.getMessage());
         }
+
+        verifiedTokenCacheService.add(value, token.getExpirationTime(), validationSecretsApplication);
+
+        return validationSecretsApplication;
     }
 
     /**
@@ -92,7 +127,8 @@ public class ResourceConfigurationHelper {
     }
 
     /**
-     * Converts and validates given external credentials according to the selected provider type.
+     * Converts and validates given external credentials according to the selected provider type. Recent validation
+     * results are reused, so repeated token acquisition with the same credentials does not reach vendors.
      *
      * @param validationSecretsApplication given validation secrets application to be validated.
      * @return result of the check.
@@ -101,9 +137,21 @@ public class ResourceConfigurationHelper {
     public Boolean areSecretsValid(
             ValidationSecretsApplication validationSecretsApplication) throws SecretsConversionException {
         for (ValidationSecretsUnit validationSecretsUnit : validationSecretsApplication.getSecrets()) {
-            if (!vendorFacade.areCredentialsValid(
-                            validationSecretsUnit.getProvider(),
-                            validationSecretsUnit.getCredentials().getExternal())) {
+            Boolean valid = validationCacheService.get(
+                    validationSecretsUnit.getProvider(), validationSecretsUnit.getCredentials().getExternal());
+
+            if (Objects.isNull(valid)) {
+                valid = vendorFacade.areCredentialsValid(
+                        validationSecretsUnit.getProvider(),
+                        validationSecretsUnit.getCredentials().getExternal());
+
+                validationCacheService.add(
+                        validationSecretsUnit.getProvider(),
+                        validationSecretsUnit.getCredentials().getExternal(),
+                        valid);
+            }
+
+            if (!valid) {
                 return false;
             }
         }
@@ -111,6 +159,86 @@ public class ResourceConfigurationHelper {
         return true;
     }
 
+    /**
+     * Checks if any of the given conditional request headers is provided.
+     *
+     * @param ifNoneMatch given raw If-None-Match header value.
+     * @param ifModifiedSince given raw If-Modified-Since header value.
+     * @return result of the check.
+     */
+    public Boolean isConditionalRequest(String ifNoneMatch, String ifModifiedSince) {
+        return (Objects.nonNull(ifNoneMatch) && !ifNoneMatch.isBlank()) ||
+                (Objects.nonNull(ifModifiedSince) && !ifModifiedSince.isBlank());
+    }
+
+    /**
+     * Checks if content object with the given metadata was modified according to the given conditional request
+     * headers. When both headers are provided, entity tag condition takes precedence over the modification date one.
+     *
+     * @param contentObjectMetadata given content object metadata.
+     * @param ifNoneMatch given raw If-None-Match header value.
+     * @param ifModifiedSince given raw If-Modified-Since header value.
+     * @return result of the check.
+     */
+    public Boolean isContentObjectModified(
+            ContentObjectMetadataDto contentObjectMetadata, String ifNoneMatch, String ifModifiedSince) {
+        if (Objects.nonNull(ifNoneMatch) && !ifNoneMatch.isBlank()) {
+            for (String entityTag : ifNoneMatch.split(",")) {
+                String value = entityTag.trim();
+
+                if (value.equals("*")) {
+                    return false;
+                }
+
+                if (value.startsWith("W/")) {
+                    value = value.substring(2);
+                }
+
+                if (Objects.equals(
+                        value.replace("\"", ""), contentObjectMetadata.getEtag().replace("\"", ""))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        if (Objects.nonNull(ifModifiedSince) && !ifModifiedSince.isBlank()) {
+            ZonedDateTime since;
+
+            try {
+                since = ZonedDateTime.parse(ifModifiedSince.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            } catch (DateTimeParseException e) {
+                return true;
+            }
+
+            return contentObjectMetadata.getLastModified() > since.toEpochSecond();
+        }
+
+        return true;
+    }
+
+    /**
+     * Composes ETag header value from the given content object metadata.
+     *
+     * @param contentObjectMetadata given content object metadata.
+     * @return composed ETag header value.
+     */
+    public String composeEntityTag(ContentObjectMetadataDto contentObjectMetadata) {
+        return String.format("\"%s\"", contentObjectMetadata.getEtag().replace("\"", ""));
+    }
+
+    /**
+     * Composes Last-Modified header value from the given content object metadata.
+     *
+     * @param contentObjectMetadata given content object metadata.
+     * @return composed Last-Modified header value.
+     */
+    public String composeLastModified(ContentObjectMetadataDto contentObjectMetadata) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                Instant.ofEpochSecond(contentObjectMetadata.getLastModified()).atZone(ZoneOffset.UTC));
+    }
+
     /**
      * Checks if the given validation secrets units are empty.
      *
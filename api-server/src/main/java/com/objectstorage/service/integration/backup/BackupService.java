@@ -124,7 +124,7 @@ public class BackupService {
                                     VendorConfigurationHelper.createBucketName(
                                             repositoryContentApplicationUnit.getRoot()),
                                     contentRetrievalProviderUnit.getLocation()
-                            );
+                            ).getContent();
                         } catch (
                                 SecretsConversionException |
                                 BucketObjectRetrievalFailureException |
@@ -3,7 +3,10 @@ package com.objectstorage.service.integration.diagnostics.telemetry;
 import com.objectstorage.entity.common.PropertiesEntity;
 import com.objectstorage.exception.ApplicationStartGuardFailureException;
 import com.objectstorage.exception.TelemetryOperationFailureException;
+import com.objectstorage.repository.cache.RepositoryCacheService;
 import com.objectstorage.service.config.ConfigService;
+import com.objectstorage.service.integration.temporatestorage.statistics.TemporateStorageStatisticsService;
+import com.objectstorage.service.processor.lock.ProcessorLockService;
 import com.objectstorage.service.state.StateService;
 import com.objectstorage.service.telemetry.binding.TelemetryBinding;
 import io.micrometer.core.instrument.binder.jvm.JvmMemoryMetrics;
@@ -47,6 +50,15 @@ public class TelemetryConfigService {
     @Inject
     TelemetryBinding telemetryBinding;
 
+    @Inject
+    RepositoryCacheService repositoryCacheService;
+
+    @Inject
+    ProcessorLockService processorLockService;
+
+    @Inject
+    TemporateStorageStatisticsService temporateStorageStatisticsService;
+
     private ServerSocket connector;
 
     private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
@@ -77,6 +89,10 @@ public class TelemetryConfigService {
         new UptimeMetrics().bindTo(prometheusRegistry);
 
         telemetryBinding.bindTo(prometheusRegistry);
+        repositoryCacheService.bindTo(prometheusRegistry);
+        processorLockService.bindTo(prometheusRegistry);
+        temporateStorageStatisticsService.bindTo(prometheusRegistry);
+        StateService.getWatcherService().bindTo(prometheusRegistry);
 
         Thread.ofPlatform().start(() -> {
             while (!connector.isClosed()) {
@@ -195,6 +195,33 @@ public class TemplateConfigService {
                 } catch (IOException ignored) {
                 }
             }
+
+            try {
+                template = cfg.getTemplate(properties.getDiagnosticsGrafanaDashboardsOperationsTemplate());
+            } catch (IOException e) {
+                throw new DiagnosticsTemplateProcessingFailureException(e.getMessage());
+            }
+
+            try {
+                fileWriter = new FileWriter(
+                        Paths.get(
+                                        properties.getDiagnosticsGrafanaDashboardsLocation(),
+                                        properties.getDiagnosticsGrafanaDashboardsOperationsOutput()).
+                                toFile());
+            } catch (IOException e) {
+                throw new DiagnosticsTemplateProcessingFailureException(e.getMessage());
+            }
+
+            try {
+                template.process(input, fileWriter);
+            } catch (TemplateException | IOException e) {
+                throw new DiagnosticsTemplateProcessingFailureException(e.getMessage());
+            } finally {
+                try {
+                    fileWriter.close();
+                } catch (IOException ignored) {
+                }
+            }
         }
     }
 }
@@ -1,6 +1,8 @@
 package com.objectstorage.service.integration.http.jwt;
 
+import com.objectstorage.entity.common.ConfigEntity;
 import com.objectstorage.exception.JwtSecretKeyCreationFailureException;
+import com.objectstorage.service.config.ConfigService;
 import io.quarkus.runtime.Startup;
 import io.smallrye.jwt.algorithm.SignatureAlgorithm;
 import jakarta.annotation.PostConstruct;
@@ -11,6 +13,7 @@ import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.Objects;
 
 import com.objectstorage.service.state.StateService;
 import lombok.SneakyThrows;
@@ -22,11 +25,42 @@ import lombok.SneakyThrows;
 @ApplicationScoped
 public class JwtConfigService {
     /**
-     * Performs ObjectStorage API Server jwt secret token creation.
+     * Represents minimal length of the configured signing key in bytes.
+     */
+    private static final Integer SIGNING_KEY_MIN_LENGTH = 32;
+
+    @Inject
+    ConfigService configService;
+
+    /**
+     * Performs ObjectStorage API Server jwt secret token creation. Signing key set in the configuration is used, if
+     * present, so tokens are accepted by all the instances sharing it. Configured signing key is required to be
+     * Base64 encoded and to be at least 256 bits long.
      */
     @PostConstruct
     @SneakyThrows
     private void process() {
+        ConfigEntity.Session session = configService.getConfig().getSession();
+
+        if (Objects.nonNull(session) && Objects.nonNull(session.getSigningKey())) {
+            byte[] signingKey;
+
+            try {
+                signingKey = Base64.getDecoder().decode(session.getSigningKey());
+            } catch (IllegalArgumentException e) {
+                throw new JwtSecretKeyCreationFailureException("signing key is not Base64 encoded");
+            }
+
+            if (signingKey.length < SIGNING_KEY_MIN_LENGTH) {
+                throw new JwtSecretKeyCreationFailureException(
+                        String.format("signing key is shorter than %d bits", SIGNING_KEY_MIN_LENGTH * 8));
+            }
+
+            StateService.setJwtSecretKey(session.getSigningKey());
+
+            return;
+        }
+
         KeyGenerator keyGen = KeyGenerator.getInstance("HmacSHA256");
 
         keyGen.init(256);
@@ -49,8 +49,8 @@ public class DatabasePropertiesConfigService implements ConfigSourceFactory {
             return Collections.emptyList();
         }
 
-        final ConfigValue databaseStatementCloseDelay = context.getValue("database.statement.close-delay");
-        if (Objects.isNull(databaseStatementCloseDelay) || Objects.isNull(databaseStatementCloseDelay.getValue())) {
+        final ConfigValue databaseStatementCacheSize = context.getValue("database.statement.cache.size");
+        if (Objects.isNull(databaseStatementCacheSize) || Objects.isNull(databaseStatementCacheSize.getValue())) {
             return Collections.emptyList();
         }
 
@@ -79,12 +79,25 @@ public class DatabasePropertiesConfigService implements ConfigSourceFactory {
 
                 properties.put("quarkus.datasource.jdbc.driver", "org.sqlite.JDBC");
                 properties.put("quarkus.datasource.db-kind", "other");
-                properties.put(
-                        "quarkus.datasource.jdbc.url",
-                        String.format(
-                                "jdbc:sqlite:%s/.%s/internal/database/data.db",
-                                System.getProperty("user.home"),
-                                databaseName.getValue()));
+
+                String url = String.format(
+                        "jdbc:sqlite:%s/.%s/internal/database/data.db",
+                        System.getProperty("user.home"),
+                        databaseName.getValue());
+
+                ConfigEntity.InternalStorage.Sqlite3 sqlite3 = config.getInternalStorage().getSqlite3();
+                if (Objects.nonNull(sqlite3)) {
+                    url = String.format(
+                            "%s?busy_timeout=%d&journal_mode=%s&synchronous=%s&mmap_size=%d&cache_size=-%d",
+                            url,
+                            sqlite3.getBusyTimeout(),
+                            sqlite3.getJournalMode(),
+                            sqlite3.getSynchronous(),
+                            sqlite3.getMmapSize(),
+                            sqlite3.getCacheSize());
+                }
+
+                properties.put("quarkus.datasource.jdbc.url", url);
             }
             case POSTGRES -> {
                 properties.put("quarkus.liquibase.change-log", liquibasePostgresConfig.getValue());
@@ -92,24 +105,20 @@ public class DatabasePropertiesConfigService implements ConfigSourceFactory {
                 properties.put("quarkus.datasource.db-kind", "postgresql");
                 properties.put(
                         "quarkus.datasource.jdbc.url",
-                        String.format("jdbc:postgresql://%s/%s",
+                        String.format("jdbc:postgresql://%s/%s?prepareThreshold=1&preparedStatementCacheQueries=%s",
                                 config.getInternalStorage().getHost(),
-                                databaseName.getValue()));
+                                databaseName.getValue(),
+                                databaseStatementCacheSize.getValue()));
 
-                Connection connection = DriverManager.getConnection(
+                try (Connection connection = DriverManager.getConnection(
                         String.format("jdbc:postgresql://%s/postgres", config.getInternalStorage().getHost()),
                         config.getInternalStorage().getUsername(),
-                        config.getInternalStorage().getPassword());
-
-                try {
+                        config.getInternalStorage().getPassword())) {
                     RepositoryExecutor.performQuery(
                             connection,
-                            String.format("CREATE DATABASE %s", databaseName.getValue()),
-                            Integer.valueOf(databaseStatementCloseDelay.getValue()));
+                            String.format("CREATE DATABASE %s", databaseName.getValue()));
                 } catch (QueryExecutionFailureException ignore) {
                 }
-
-                connection.close();
             }
         }
 
@@ -6,12 +6,15 @@ import com.objectstorage.dto.ContentCompoundUnitDto;
 import com.objectstorage.dto.EarliestTemporateContentDto;
 import com.objectstorage.exception.*;
 import com.objectstorage.model.ValidationSecretsApplication;
-import com.objectstorage.repository.executor.RepositoryExecutor;
 import com.objectstorage.repository.facade.RepositoryFacade;
 import com.objectstorage.service.config.ConfigService;
+import com.objectstorage.service.integration.temporatestorage.statistics.TemporateStorageStatisticsService;
+import com.objectstorage.service.processor.lock.ProcessorLockService;
 import com.objectstorage.service.state.StateService;
 import com.objectstorage.service.telemetry.TelemetryService;
 import com.objectstorage.service.telemetry.binding.TelemetryBinding;
+import com.objectstorage.service.telemetry.tracing.TracingScope;
+import com.objectstorage.service.telemetry.tracing.TracingService;
 import com.objectstorage.service.vendor.VendorFacade;
 import com.objectstorage.service.vendor.common.VendorConfigurationHelper;
 import com.objectstorage.service.workspace.facade.WorkspaceFacade;
@@ -24,9 +27,11 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.ByteArrayInputStream;
+import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 
 /**
  * Provides temporate storage configuration used for upload processing.
@@ -39,9 +44,6 @@ public class TemporateStorageService {
     @Inject
     ConfigService configService;
 
-    @Inject
-    RepositoryExecutor repositoryExecutor;
-
     @Inject
     RepositoryFacade repositoryFacade;
 
@@ -57,6 +59,15 @@ public class TemporateStorageService {
     @Inject
     TelemetryService telemetryService;
 
+    @Inject
+    ProcessorLockService processorLockService;
+
+    @Inject
+    TemporateStorageStatisticsService temporateStorageStatisticsService;
+
+    @Inject
+    TracingService tracingService;
+
     private final ScheduledExecutorService scheduledOperationExecutorService =
             Executors.newSingleThreadScheduledExecutor();
 
@@ -81,19 +92,9 @@ public class TemporateStorageService {
         scheduledOperationExecutorService.scheduleWithFixedDelay(() -> {
             StateService.getTemporateStorageProcessorGuard().lock();
 
-            try {
-                if (!repositoryFacade.isTemporateContentPresent()) {
-                    StateService.getTemporateStorageProcessorGuard().unlock();
-
-                    return;
-                }
-            } catch (TemporateContentRetrievalFailureException e1) {
+            if (!temporateStorageStatisticsService.isPendingPresent()) {
                 StateService.getTemporateStorageProcessorGuard().unlock();
 
-                telemetryService.increaseCloudServiceUploadRetries();
-
-                logger.error(e1.getMessage());
-
                 return;
             }
 
@@ -102,21 +103,7 @@ public class TemporateStorageService {
             try {
                 temporateContentDto = repositoryFacade.retrieveEarliestTemporateContent();
             } catch (TemporateContentRetrievalFailureException e) {
-                StateService.getTemporateStorageProcessorGuard().unlock();
-
-                telemetryService.increaseCloudServiceUploadRetries();
-
-                logger.error(e.getMessage());
-
-                return;
-            }
-
-            StateService.getTransactionProcessorGuard().lock();
-
-            try {
-                repositoryExecutor.beginTransaction();
-            } catch (TransactionInitializationFailureException e) {
-                StateService.getTransactionProcessorGuard().unlock();
+                temporateStorageStatisticsService.synchronize();
 
                 StateService.getTemporateStorageProcessorGuard().unlock();
 
@@ -127,149 +114,107 @@ public class TemporateStorageService {
                 return;
             }
 
-            try {
-                repositoryFacade.removeTemporateContentByHash(temporateContentDto.getHash());
-            } catch (TemporateContentRemovalFailureException e1) {
-                telemetryService.increaseCloudServiceUploadRetries();
-
-                try {
-                    repositoryExecutor.rollbackTransaction();
-                } catch (TransactionRollbackFailureException e2) {
-                    StateService.getTransactionProcessorGuard().unlock();
-
-                    StateService.getTemporateStorageProcessorGuard().unlock();
+            try (TracingScope ignored = tracingService.startLinkedScope(
+                    "temporate.replicate",
+                    temporateContentDto.getTraceParent(),
+                    "hash",
+                    temporateContentDto.getHash())) {
+                replicate(temporateContentDto);
+            }
+        }, 0, period, TimeUnit.MILLISECONDS);
+    }
 
-                    logger.error(e2.getMessage());
+    /**
+     * Replicates the given earliest temporate content to all its providers and removes it from ObjectStorage Temporate
+     * Storage. Vendor uploads are performed outside of any database transaction, while temporate records are removed
+     * with a single statement only after all the uploads succeed, so the internal storage writer is never held during
+     * transfers. Failed replication is retried on the next tick, which uploads the same content again. Releases
+     * temporate storage processor guard after replication is finished.
+     *
+     * @param temporateContentDto given earliest temporate content.
+     */
+    private void replicate(EarliestTemporateContentDto temporateContentDto) {
+        ValidationSecretsApplication validationSecretsApplication =
+                ContentCompoundUnitsToValidationSecretsApplicationConverter.convert(
+                        temporateContentDto.getContentCompoundUnits());
 
-                    return;
-                }
+        List<Lock> locks = processorLockService.lock(validationSecretsApplication);
 
-                StateService.getTransactionProcessorGuard().unlock();
+        String workspaceUnitKey = workspaceFacade.createWorkspaceUnitKey(validationSecretsApplication);
 
-                StateService.getTemporateStorageProcessorGuard().unlock();
+        byte[] content;
 
-                logger.error(e1.getMessage());
+        try {
+            content = workspaceFacade.getObjectFile(workspaceUnitKey, temporateContentDto.getHash());
+        } catch (FileUnitRetrievalFailureException e) {
+            processorLockService.unlock(locks);
 
-                return;
-            }
+            StateService.getTemporateStorageProcessorGuard().unlock();
 
-            ValidationSecretsApplication validationSecretsApplication =
-                    ContentCompoundUnitsToValidationSecretsApplicationConverter.convert(
-                            temporateContentDto.getContentCompoundUnits());
+            telemetryService.increaseCloudServiceUploadRetries();
 
-            String workspaceUnitKey = workspaceFacade.createWorkspaceUnitKey(validationSecretsApplication);
+            logger.error(e.getMessage());
 
-            byte[] content;
+            return;
+        }
 
+        for (ContentCompoundUnitDto contentCompoundUnit : temporateContentDto.getContentCompoundUnits()) {
             try {
-                content = workspaceFacade.getObjectFile(workspaceUnitKey, temporateContentDto.getHash());
-            } catch (FileUnitRetrievalFailureException e1) {
-                telemetryService.increaseCloudServiceUploadRetries();
-
-                try {
-                    repositoryExecutor.rollbackTransaction();
-                } catch (TransactionRollbackFailureException e2) {
-                    StateService.getTransactionProcessorGuard().unlock();
-
-                    StateService.getTemporateStorageProcessorGuard().unlock();
-
-                    logger.error(e2.getMessage());
-
-                    return;
-                }
-
-                StateService.getTransactionProcessorGuard().unlock();
+                vendorFacade.uploadObjectToBucket(
+                        contentCompoundUnit.getProvider(),
+                        contentCompoundUnit.getCredentials().getExternal(),
+                        VendorConfigurationHelper.createBucketName(
+                                contentCompoundUnit.getRepositoryContentUnitDto().getRoot()),
+                        temporateContentDto.getLocation(),
+                        new ByteArrayInputStream(content));
+            } catch (
+                    SecretsConversionException |
+                    VendorOperationFailureException |
+                    BucketObjectUploadFailureException  e) {
+                processorLockService.unlock(locks);
 
                 StateService.getTemporateStorageProcessorGuard().unlock();
 
-                logger.error(e1.getMessage());
-
-                return;
-            }
-
-            for (ContentCompoundUnitDto contentCompoundUnit : temporateContentDto.getContentCompoundUnits()) {
-                try {
-                    vendorFacade.uploadObjectToBucket(
-                            contentCompoundUnit.getProvider(),
-                            contentCompoundUnit.getCredentials().getExternal(),
-                            VendorConfigurationHelper.createBucketName(
-                                    contentCompoundUnit.getRepositoryContentUnitDto().getRoot()),
-                            temporateContentDto.getLocation(),
-                            new ByteArrayInputStream(content));
-                } catch (
-                        SecretsConversionException |
-                        VendorOperationFailureException |
-                        BucketObjectUploadFailureException  e1) {
-                    telemetryService.increaseCloudServiceUploadRetries();
-
-                    try {
-                        repositoryExecutor.rollbackTransaction();
-                    } catch (TransactionRollbackFailureException e2) {
-                        StateService.getTransactionProcessorGuard().unlock();
-
-                        StateService.getTemporateStorageProcessorGuard().unlock();
-
-                        logger.error(e2.getMessage());
-
-                        return;
-                    }
-
-                    StateService.getTransactionProcessorGuard().unlock();
-
-                    StateService.getTemporateStorageProcessorGuard().unlock();
-
-                    logger.info(e1.getMessage());
-
-                    return;
-                }
-            }
-
-            try {
-                workspaceFacade.removeObjectFile(workspaceUnitKey, temporateContentDto.getHash());
-            } catch (FileRemovalFailureException e1) {
                 telemetryService.increaseCloudServiceUploadRetries();
 
-                try {
-                    repositoryExecutor.rollbackTransaction();
-                } catch (TransactionRollbackFailureException e2) {
-                    StateService.getTransactionProcessorGuard().unlock();
-
-                    StateService.getTemporateStorageProcessorGuard().unlock();
-
-                    logger.error(e2.getMessage());
+                logger.info(e.getMessage());
 
-                    return;
-                }
-
-                StateService.getTransactionProcessorGuard().unlock();
+                return;
+            }
 
-                StateService.getTemporateStorageProcessorGuard().unlock();
+            temporateStorageStatisticsService.acknowledge(
+                    temporateContentDto.getHash(),
+                    contentCompoundUnit.getProvider().toString(),
+                    temporateContentDto.getCreatedAt());
+        }
 
-                logger.error(e1.getMessage());
+        try {
+            repositoryFacade.removeTemporateContentByHash(temporateContentDto.getHash());
+        } catch (TemporateContentRemovalFailureException e) {
+            processorLockService.unlock(locks);
 
-                return;
-            }
+            StateService.getTemporateStorageProcessorGuard().unlock();
 
-            try {
-                repositoryExecutor.commitTransaction();
-            } catch (TransactionCommitFailureException e) {
-                StateService.getTransactionProcessorGuard().unlock();
+            telemetryService.increaseCloudServiceUploadRetries();
 
-                StateService.getTemporateStorageProcessorGuard().unlock();
+            logger.error(e.getMessage());
 
-                telemetryService.increaseCloudServiceUploadRetries();
+            return;
+        }
 
-                logger.error(e.getMessage());
+        try {
+            workspaceFacade.removeObjectFile(workspaceUnitKey, temporateContentDto.getHash());
+        } catch (FileRemovalFailureException e) {
+            logger.error(e.getMessage());
+        }
 
-                return;
-            }
+        processorLockService.unlock(locks);
 
-            StateService.getTransactionProcessorGuard().unlock();
+        temporateStorageStatisticsService.complete(temporateContentDto.getHash());
 
-            telemetryService.increaseCurrentCloudServiceUploads();
+        telemetryService.increaseCurrentCloudServiceUploads();
 
-            StateService.getTemporateStorageProcessorGuard().unlock();
-        }, 0, period, TimeUnit.MILLISECONDS);
+        StateService.getTemporateStorageProcessorGuard().unlock();
     }
 
     /**
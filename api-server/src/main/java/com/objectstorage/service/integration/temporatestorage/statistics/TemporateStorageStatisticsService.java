@@ -0,0 +1,281 @@
+package com.objectstorage.service.integration.temporatestorage.statistics;
+
+import com.objectstorage.dto.TemporatePendingUnitDto;
+import com.objectstorage.exception.TemporateContentRetrievalFailureException;
+import com.objectstorage.repository.facade.RepositoryFacade;
+import com.objectstorage.service.telemetry.TelemetryService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.quarkus.runtime.Startup;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.AllArgsConstructor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service used to track content pending replication in ObjectStorage Temporate Storage. The state is loaded once from
+ * the temporate table and then maintained incrementally with the help of committed upload, removal and replication
+ * operations, so no repeated full-table queries are needed to expose it. Updates are serialized, while reads are
+ * lock-free.
+ */
+@Startup(value = 750)
+@ApplicationScoped
+public class TemporateStorageStatisticsService implements MeterBinder {
+    private static final Logger logger = LogManager.getLogger(TemporateStorageStatisticsService.class);
+
+    @Inject
+    RepositoryFacade repositoryFacade;
+
+    @Inject
+    TelemetryService telemetryService;
+
+    /**
+     * Represents pending temporate content of a single hash.
+     */
+    @AllArgsConstructor
+    private static class PendingUnit {
+        /**
+         * Represents time, when the content was uploaded, in milliseconds.
+         */
+        private final Long createdAt;
+
+        /**
+         * Represents size of the uploaded content in bytes, which is unknown for the content uploaded before the
+         * application start.
+         */
+        private final Long size;
+
+        /**
+         * Represents amount of temporate entities, which are still pending replication.
+         */
+        private final Integer amount;
+    }
+
+    /**
+     * Represents pending temporate content by hash.
+     */
+    private final Map<String, PendingUnit> pendingUnits = new ConcurrentHashMap<>();
+
+    /**
+     * Represents amount of pending temporate content units by their upload time, used to find the oldest one.
+     */
+    private final ConcurrentSkipListMap<Long, Integer> pendingCreatedAt = new ConcurrentSkipListMap<>();
+
+    private final AtomicInteger pendingAmount = new AtomicInteger();
+
+    private final AtomicLong pendingBytes = new AtomicLong();
+
+    /**
+     * Represents if content pending replication was successfully loaded from the temporate table.
+     */
+    private final AtomicBoolean loaded = new AtomicBoolean();
+
+    /**
+     * Loads content pending replication from the temporate table.
+     */
+    @PostConstruct
+    private void process() {
+        synchronize();
+    }
+
+    /**
+     * Reloads content pending replication from the temporate table. Used after operations, which remove temporate
+     * content without knowing its exact amount, and when the earliest temporate content can't be retrieved.
+     */
+    public synchronized void synchronize() {
+        List<TemporatePendingUnitDto> units;
+
+        try {
+            units = repositoryFacade.retrievePendingTemporateContent();
+        } catch (TemporateContentRetrievalFailureException e) {
+            logger.error(e.getMessage());
+
+            return;
+        }
+
+        pendingUnits.keySet().forEach(this::removeUnit);
+
+        for (TemporatePendingUnitDto unit : units) {
+            pendingUnits.compute(unit.getHash(), (key, value) -> {
+                PendingUnit result = new PendingUnit(
+                        TimeUnit.SECONDS.toMillis(unit.getCreatedAt()), 0L, unit.getAmount());
+
+                trackUnit(value, result);
+
+                return result;
+            });
+        }
+
+        loaded.set(true);
+
+        telemetryService.setTemporateStorageFilesAmount(pendingAmount.get());
+    }
+
+    /**
+     * Checks if there is any content pending replication. Content is considered present until it's successfully
+     * loaded from the temporate table.
+     *
+     * @return result of the check.
+     */
+    public Boolean isPendingPresent() {
+        return !loaded.get() || pendingAmount.get() > 0;
+    }
+
+    /**
+     * Adds committed upload of the content with the given hash and size, which is pending replication to the given
+     * amount of providers.
+     *
+     * @param hash given content hash.
+     * @param size given content size in bytes.
+     * @param amount given amount of created temporate entities.
+     */
+    public synchronized void addUpload(String hash, Long size, Integer amount) {
+        pendingUnits.compute(hash, (key, value) -> {
+            PendingUnit result = Objects.isNull(value) ?
+                    new PendingUnit(System.currentTimeMillis(), size, amount) :
+                    new PendingUnit(value.createdAt, value.size + size, value.amount + amount);
+
+            trackUnit(value, result);
+
+            return result;
+        });
+
+        telemetryService.setTemporateStorageFilesAmount(pendingAmount.get());
+    }
+
+    /**
+     * Removes given amount of temporate entities of the content with the given hash, which were removed without
+     * replication.
+     *
+     * @param hash given content hash.
+     * @param amount given amount of removed temporate entities.
+     */
+    public synchronized void removeUpload(String hash, Integer amount) {
+        pendingUnits.computeIfPresent(hash, (key, value) -> {
+            PendingUnit result = value.amount > amount ?
+                    new PendingUnit(value.createdAt, value.size, value.amount - amount) : null;
+
+            trackUnit(value, result);
+
+            return result;
+        });
+
+        telemetryService.setTemporateStorageFilesAmount(pendingAmount.get());
+    }
+
+    /**
+     * Records replication of the content with the given hash to the given provider, once its upload is acknowledged
+     * by the provider.
+     *
+     * @param hash given content hash.
+     * @param provider given provider name.
+     * @param createdAt given creation timestamp of the content in seconds, used when the content is not tracked.
+     */
+    public void acknowledge(String hash, String provider, Long createdAt) {
+        PendingUnit unit = pendingUnits.get(hash);
+
+        long start = Objects.nonNull(unit) ? unit.createdAt : TimeUnit.SECONDS.toMillis(createdAt);
+
+        telemetryService.recordTemporateStorageReplicationLag(provider, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Completes replication of the content with the given hash to all the providers.
+     *
+     * @param hash given content hash.
+     */
+    public synchronized void complete(String hash) {
+        PendingUnit unit = pendingUnits.remove(hash);
+
+        if (Objects.nonNull(unit)) {
+            trackUnit(unit, null);
+
+            telemetryService.increaseTemporateStorageDrainedBytes(unit.size);
+        }
+
+        telemetryService.increaseTemporateStorageDrainedFiles();
+        telemetryService.setTemporateStorageFilesAmount(pendingAmount.get());
+    }
+
+    /**
+     * Retrieves age of the oldest content pending replication.
+     *
+     * @return retrieved age in seconds.
+     */
+    public Double getOldestPendingAge() {
+        Map.Entry<Long, Integer> oldest = pendingCreatedAt.firstEntry();
+
+        if (Objects.isNull(oldest)) {
+            return (double) 0;
+        }
+
+        return (double) (System.currentTimeMillis() - oldest.getKey()) / (double) 1000;
+    }
+
+    /**
+     * Removes pending unit with the given hash.
+     *
+     * @param hash given content hash.
+     */
+    private void removeUnit(String hash) {
+        pendingUnits.computeIfPresent(hash, (key, value) -> {
+            trackUnit(value, null);
+
+            return null;
+        });
+    }
+
+    /**
+     * Updates pending content aggregates with the replacement of the given previous pending unit by the given
+     * current one. Both of them may be null.
+     *
+     * @param previous given previous pending unit.
+     * @param current given current pending unit.
+     */
+    private void trackUnit(PendingUnit previous, PendingUnit current) {
+        if (Objects.nonNull(previous)) {
+            pendingAmount.addAndGet(-previous.amount);
+            pendingBytes.addAndGet(-previous.size);
+
+            pendingCreatedAt.computeIfPresent(previous.createdAt, (key, value) -> value > 1 ? value - 1 : null);
+        }
+
+        if (Objects.nonNull(current)) {
+            pendingAmount.addAndGet(current.amount);
+            pendingBytes.addAndGet(current.size);
+
+            pendingCreatedAt.merge(current.createdAt, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * @see MeterBinder
+     */
+    @Override
+    public void bindTo(@NotNull MeterRegistry meterRegistry) {
+        Gauge.builder(
+                        "general.temporate_storage_oldest_pending_age",
+                        this,
+                        TemporateStorageStatisticsService::getOldestPendingAge)
+                .description("Represents age in seconds of the oldest content pending replication")
+                .register(meterRegistry);
+
+        Gauge.builder("general.temporate_storage_pending_bytes", pendingBytes, AtomicLong::get)
+                .description("Represents size of the content pending replication uploaded in the current session")
+                .register(meterRegistry);
+    }
+}
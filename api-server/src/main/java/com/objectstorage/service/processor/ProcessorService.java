@@ -1,13 +1,21 @@
 package com.objectstorage.service.processor;
 
+import com.google.common.io.CountingInputStream;
+import com.objectstorage.dto.ContentObjectDto;
+import com.objectstorage.dto.ContentObjectMetadataDto;
+import com.objectstorage.dto.ContentRetrievalProviderPageDto;
 import com.objectstorage.dto.RepositoryContentUnitDto;
 import com.objectstorage.dto.TemporateContentUnitDto;
+import com.objectstorage.entity.common.PropertiesEntity;
 import com.objectstorage.exception.*;
 import com.objectstorage.model.*;
 import com.objectstorage.repository.executor.RepositoryExecutor;
 import com.objectstorage.repository.facade.RepositoryFacade;
+import com.objectstorage.service.integration.temporatestorage.statistics.TemporateStorageStatisticsService;
+import com.objectstorage.service.processor.lock.ProcessorLockService;
 import com.objectstorage.service.state.StateService;
 import com.objectstorage.service.telemetry.TelemetryService;
+import com.objectstorage.service.telemetry.tracing.Traced;
 import com.objectstorage.service.vendor.VendorFacade;
 import com.objectstorage.service.vendor.common.VendorConfigurationHelper;
 import com.objectstorage.service.workspace.facade.WorkspaceFacade;
@@ -16,19 +24,27 @@ import jakarta.inject.Inject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.locks.Lock;
 
 /**
- * Provides high-level access to ObjectStorage processor operations.
+ * Provides high-level access to ObjectStorage processor operations. Vendor and workspace operations are performed
+ * outside of internal storage transactions, which only wrap repository writes, so slow transfers never hold the
+ * internal storage writer.
  */
+@Traced
 @ApplicationScoped
 public class ProcessorService {
     private static final Logger logger = LogManager.getLogger(ProcessorService.class);
 
+    @Inject
+    PropertiesEntity properties;
+
     @Inject
     TelemetryService telemetryService;
 
@@ -44,17 +60,51 @@ public class ProcessorService {
     @Inject
     VendorFacade vendorFacade;
 
+    @Inject
+    ProcessorLockService processorLockService;
+
+    @Inject
+    TemporateStorageStatisticsService temporateStorageStatisticsService;
+
     /**
-     * Retrieves all the content from ObjectStorage Temporate Storage or configured providers.
+     * Retrieves single page of the content from ObjectStorage Temporate Storage or configured providers. Pending and
+     * backup content is retrieved only for the first page, while uploaded content is listed lazily page by page.
      *
      * @param validationSecretsApplication given validation secrets application.
+     * @param prefix given prefix of the retrieved content locations, which can be null.
+     * @param limit given maximum amount of uploaded objects retrieved per provider, which can be null.
+     * @param continuationToken given continuation token of the previous page, which is null for the first page.
      * @return retrieved content.
      * @throws ProcessorContentRetrievalFailureException if content retrieval fails.
      */
-    public ContentRetrievalResult retrieveContent(ValidationSecretsApplication validationSecretsApplication)
+    public ContentRetrievalResult retrieveContent(
+            ValidationSecretsApplication validationSecretsApplication,
+            String prefix,
+            Integer limit,
+            String continuationToken)
             throws ProcessorContentRetrievalFailureException {
+        Map<String, String> vendorContinuationTokens = null;
+
+        if (Objects.nonNull(continuationToken)) {
+            try {
+                vendorContinuationTokens = VendorConfigurationHelper.parseContinuationToken(continuationToken);
+            } catch (IllegalArgumentException e) {
+                throw new ProcessorContentRetrievalFailureException(e.getMessage());
+            }
+        }
+
+        Integer pageLimit;
+
+        if (Objects.isNull(limit) || limit <= 0) {
+            pageLimit = properties.getContentListingLimitDefault();
+        } else {
+            pageLimit = Math.min(limit, properties.getContentListingLimitMax());
+        }
+
         List<ContentRetrievalCompound> compounds = new ArrayList<>();
 
+        Map<String, String> nextVendorContinuationTokens = new HashMap<>();
+
         String workspaceUnitKey = workspaceFacade.createWorkspaceUnitKey(validationSecretsApplication);
 
         for (ValidationSecretsUnit validationSecretsUnit : validationSecretsApplication.getSecrets()) {
@@ -66,43 +116,84 @@ public class ProcessorService {
                 throw new ProcessorContentRetrievalFailureException(e.getMessage());
             }
 
-            List<ContentRetrievalProviderUnit> pending;
+            List<ContentRetrievalProviderUnit> pending = new ArrayList<>();
 
-            try {
-                pending = repositoryFacade.retrieveFilteredTemporateContent(validationSecretsUnit);
-            } catch (TemporateContentRetrievalFailureException e) {
-                throw new ProcessorContentRetrievalFailureException(e.getMessage());
+            List<ContentRetrievalBackupUnit> backups = new ArrayList<>();
+
+            if (Objects.isNull(vendorContinuationTokens)) {
+                try {
+                    pending = repositoryFacade.retrieveFilteredTemporateContent(validationSecretsUnit)
+                            .stream()
+                            .filter(element -> isLocationPrefixed(element.getLocation(), prefix))
+                            .toList();
+                } catch (TemporateContentRetrievalFailureException e) {
+                    throw new ProcessorContentRetrievalFailureException(e.getMessage());
+                }
+
+                try {
+                    backups = workspaceFacade.getBackupUnits(
+                                    workspaceUnitKey, validationSecretsUnit.getProvider().toString())
+                            .stream()
+                            .filter(element -> isLocationPrefixed(element.getLocation(), prefix))
+                            .toList();
+                } catch (FileUnitsRetrievalFailureException e) {
+                    throw new ProcessorContentRetrievalFailureException(e.getMessage());
+                }
             }
 
             List<ContentRetrievalProviderUnit> uploaded = new ArrayList<>();
 
-            try {
-                uploaded = vendorFacade.listAllObjectsFromBucket(
-                        validationSecretsUnit.getProvider(),
-                        validationSecretsUnit.getCredentials().getExternal(),
-                        VendorConfigurationHelper.createBucketName(
-                                repositoryContentLocationUnitDto.getRoot()));
-            } catch (SecretsConversionException | BucketObjectRetrievalFailureException |
-                     VendorOperationFailureException ignored) {
-            }
+            String provider = validationSecretsUnit.getProvider().toString();
 
-            List<ContentRetrievalBackupUnit> backups;
+            if (Objects.isNull(vendorContinuationTokens) || vendorContinuationTokens.containsKey(provider)) {
+                String bucketName = VendorConfigurationHelper.createBucketName(
+                        repositoryContentLocationUnitDto.getRoot());
 
-            try {
-                backups = workspaceFacade.getBackupUnits(
-                        workspaceUnitKey, validationSecretsUnit.getProvider().toString());
-            } catch (FileUnitsRetrievalFailureException e) {
-                throw new ProcessorContentRetrievalFailureException(e.getMessage());
+                try {
+                    if (vendorFacade.isBucketPresent(
+                            validationSecretsUnit.getProvider(),
+                            validationSecretsUnit.getCredentials().getExternal(),
+                            bucketName)) {
+                        ContentRetrievalProviderPageDto page = vendorFacade.listObjectsPageFromBucket(
+                                validationSecretsUnit.getProvider(),
+                                validationSecretsUnit.getCredentials().getExternal(),
+                                bucketName,
+                                prefix,
+                                pageLimit,
+                                Objects.isNull(vendorContinuationTokens) ?
+                                        null : vendorContinuationTokens.get(provider));
+
+                        uploaded = page.getUnits();
+
+                        if (Objects.nonNull(page.getContinuationToken())) {
+                            nextVendorContinuationTokens.put(provider, page.getContinuationToken());
+                        }
+                    }
+                } catch (SecretsConversionException | VendorOperationFailureException e) {
+                    throw new ProcessorContentRetrievalFailureException(e.getMessage());
+                }
             }
 
             compounds.add(
                     ContentRetrievalCompound.of(
                             repositoryContentLocationUnitDto.getRoot(),
-                            validationSecretsUnit.getProvider().toString(),
+                            provider,
                             List.of(ContentRetrievalUnits.of(pending, uploaded, backups))));
         }
 
-        return ContentRetrievalResult.of(compounds);
+        return ContentRetrievalResult.of(
+                compounds, VendorConfigurationHelper.createContinuationToken(nextVendorContinuationTokens));
+    }
+
+    /**
+     * Checks if the given content location starts with the given prefix.
+     *
+     * @param location given content location.
+     * @param prefix given prefix, which can be null.
+     * @return result of the check.
+     */
+    private static Boolean isLocationPrefixed(String location, String prefix) {
+        return Objects.isNull(prefix) || location.startsWith(prefix);
     }
 
     /**
@@ -114,33 +205,9 @@ public class ProcessorService {
      */
     public void apply(ContentApplication contentApplication, ValidationSecretsApplication validationSecretsApplication)
             throws ProcessorContentApplicationFailureException {
-        StateService.getTransactionProcessorGuard().lock();
-
-        try {
-            repositoryExecutor.beginTransaction();
-        } catch (TransactionInitializationFailureException e) {
-            StateService.getTransactionProcessorGuard().unlock();
-
-            throw new ProcessorContentApplicationFailureException(e.getMessage());
-        }
+        List<Lock> locks = processorLockService.lock(validationSecretsApplication);
 
         for (ValidationSecretsUnit validationSecretsUnit : validationSecretsApplication.getSecrets()) {
-            try {
-                repositoryFacade.apply(contentApplication, validationSecretsUnit);
-            } catch (RepositoryContentApplicationFailureException e1) {
-                try {
-                    repositoryExecutor.rollbackTransaction();
-                } catch (TransactionRollbackFailureException e2) {
-                    StateService.getTransactionProcessorGuard().unlock();
-
-                    throw new ProcessorContentApplicationFailureException(e2.getMessage());
-                }
-
-                StateService.getTransactionProcessorGuard().unlock();
-
-                throw new ProcessorContentApplicationFailureException(e1.getMessage());
-            }
-
             try {
                 if (!vendorFacade.isBucketPresent(
                         validationSecretsUnit.getProvider(),
@@ -153,16 +220,34 @@ public class ProcessorService {
                             VendorConfigurationHelper.createBucketName(
                                     contentApplication.getRoot()));
                 }
-            } catch (SecretsConversionException | VendorOperationFailureException e1) {
+            } catch (SecretsConversionException | VendorOperationFailureException e) {
+                processorLockService.unlock(locks);
+
+                throw new ProcessorContentApplicationFailureException(e.getMessage());
+            }
+        }
+
+        try {
+            repositoryExecutor.beginTransaction();
+        } catch (TransactionInitializationFailureException e) {
+            processorLockService.unlock(locks);
+
+            throw new ProcessorContentApplicationFailureException(e.getMessage());
+        }
+
+        for (ValidationSecretsUnit validationSecretsUnit : validationSecretsApplication.getSecrets()) {
+            try {
+                repositoryFacade.apply(contentApplication, validationSecretsUnit);
+            } catch (RepositoryContentApplicationFailureException e1) {
                 try {
                     repositoryExecutor.rollbackTransaction();
                 } catch (TransactionRollbackFailureException e2) {
-                    StateService.getTransactionProcessorGuard().unlock();
+                    processorLockService.unlock(locks);
 
                     throw new ProcessorContentApplicationFailureException(e2.getMessage());
                 }
 
-                StateService.getTransactionProcessorGuard().unlock();
+                processorLockService.unlock(locks);
 
                 throw new ProcessorContentApplicationFailureException(e1.getMessage());
             }
@@ -171,12 +256,12 @@ public class ProcessorService {
         try {
             repositoryExecutor.commitTransaction();
         } catch (TransactionCommitFailureException e) {
-            StateService.getTransactionProcessorGuard().unlock();
+            processorLockService.unlock(locks);
 
             throw new ProcessorContentApplicationFailureException(e.getMessage());
         }
 
-        StateService.getTransactionProcessorGuard().unlock();
+        processorLockService.unlock(locks);
     }
 
     /**
@@ -188,12 +273,12 @@ public class ProcessorService {
      */
     public void withdraw(ValidationSecretsApplication validationSecretsApplication)
             throws ProcessorContentWithdrawalFailureException {
-        StateService.getTransactionProcessorGuard().lock();
+        List<Lock> locks = processorLockService.lock(validationSecretsApplication);
 
         try {
             repositoryExecutor.beginTransaction();
         } catch (TransactionInitializationFailureException e) {
-            StateService.getTransactionProcessorGuard().unlock();
+            processorLockService.unlock(locks);
 
             throw new ProcessorContentWithdrawalFailureException(e.getMessage());
         }
@@ -205,12 +290,12 @@ public class ProcessorService {
                 try {
                     repositoryExecutor.rollbackTransaction();
                 } catch (TransactionRollbackFailureException e2) {
-                    StateService.getTransactionProcessorGuard().unlock();
+                    processorLockService.unlock(locks);
 
                     throw new ProcessorContentWithdrawalFailureException(e2.getMessage());
                 }
 
-                StateService.getTransactionProcessorGuard().unlock();
+                processorLockService.unlock(locks);
 
                 throw new ProcessorContentWithdrawalFailureException(e1.getMessage());
             }
@@ -219,12 +304,22 @@ public class ProcessorService {
         try {
             repositoryExecutor.commitTransaction();
         } catch (TransactionCommitFailureException e) {
-            StateService.getTransactionProcessorGuard().unlock();
+            processorLockService.unlock(locks);
 
             throw new ProcessorContentWithdrawalFailureException(e.getMessage());
         }
 
-        StateService.getTransactionProcessorGuard().unlock();
+        processorLockService.unlock(locks);
+
+        for (ValidationSecretsUnit validationSecretsUnit : validationSecretsApplication.getSecrets()) {
+            try {
+                vendorFacade.releaseClients(
+                        validationSecretsUnit.getProvider(),
+                        validationSecretsUnit.getCredentials().getExternal());
+            } catch (SecretsConversionException e) {
+                logger.error(e.getMessage());
+            }
+        }
     }
 
     /**
@@ -240,64 +335,17 @@ public class ProcessorService {
             throws ProcessorContentUploadFailureException {
         logger.info(String.format("Uploading content at '%s' location", location));
 
-        StateService.getTransactionProcessorGuard().lock();
-
-        try {
-            repositoryExecutor.beginTransaction();
-        } catch (TransactionInitializationFailureException e) {
-            StateService.getTransactionProcessorGuard().unlock();
-
-            throw new ProcessorContentUploadFailureException(e.getMessage());
-        }
-
-        Integer fileSize;
-
-        try {
-            fileSize = file.available();
-        } catch (IOException e) {
-            StateService.getTransactionProcessorGuard().unlock();
-
-            throw new ProcessorContentUploadFailureException(e.getMessage());
-        }
-
-        String workspaceUnitKey =
-                workspaceFacade.createWorkspaceUnitKey(validationSecretsApplication);
-
-        String fileUnitKey = workspaceFacade.createObjectFileUnitKey(location);
+        List<Lock> locks = processorLockService.lock(validationSecretsApplication);
 
         for (ValidationSecretsUnit validationSecretsUnit : validationSecretsApplication.getSecrets()) {
-            try {
-                repositoryFacade.upload(location, fileUnitKey, validationSecretsUnit);
-            } catch (RepositoryContentApplicationFailureException e1) {
-                try {
-                    repositoryExecutor.rollbackTransaction();
-                } catch (TransactionRollbackFailureException e2) {
-                    StateService.getTransactionProcessorGuard().unlock();
-
-                    throw new ProcessorContentUploadFailureException(e2.getMessage());
-                }
-
-                StateService.getTransactionProcessorGuard().unlock();
-
-                throw new ProcessorContentUploadFailureException(e1.getMessage());
-            }
-
             RepositoryContentUnitDto repositoryContentLocationUnitDto;
 
             try {
                 repositoryContentLocationUnitDto = repositoryFacade.retrieveContentApplication(validationSecretsUnit);
-            } catch (ContentApplicationRetrievalFailureException e1) {
-                try {
-                    repositoryExecutor.rollbackTransaction();
-                } catch (TransactionRollbackFailureException e2) {
-                    StateService.getTransactionProcessorGuard().unlock();
-
-                    throw new ProcessorContentUploadFailureException(e2.getMessage());
-                }
-
-                StateService.getTransactionProcessorGuard().unlock();
+            } catch (ContentApplicationRetrievalFailureException e) {
+                processorLockService.unlock(locks);
 
-                throw new ProcessorContentUploadFailureException(e1.getMessage());
+                throw new ProcessorContentUploadFailureException(e.getMessage());
             }
 
             try {
@@ -312,32 +360,54 @@ public class ProcessorService {
                             VendorConfigurationHelper.createBucketName(
                                     repositoryContentLocationUnitDto.getRoot()));
                 }
-            } catch (SecretsConversionException | VendorOperationFailureException e1) {
-                try {
-                    repositoryExecutor.rollbackTransaction();
-                } catch (TransactionRollbackFailureException e2) {
-                    StateService.getTransactionProcessorGuard().unlock();
+            } catch (SecretsConversionException | VendorOperationFailureException e) {
+                processorLockService.unlock(locks);
 
-                    throw new ProcessorContentUploadFailureException(e2.getMessage());
-                }
+                throw new ProcessorContentUploadFailureException(e.getMessage());
+            }
+        }
 
-                StateService.getTransactionProcessorGuard().unlock();
+        CountingInputStream countingFile = new CountingInputStream(file);
 
-                throw new ProcessorContentUploadFailureException(e1.getMessage());
-            }
+        String workspaceUnitKey =
+                workspaceFacade.createWorkspaceUnitKey(validationSecretsApplication);
+
+        String fileUnitKey = workspaceFacade.createObjectFileUnitKey(location);
+
+        try {
+            workspaceFacade.addObjectFile(workspaceUnitKey, fileUnitKey, countingFile);
+        } catch (FileCreationFailureException e) {
+            processorLockService.unlock(locks);
+
+            throw new ProcessorContentUploadFailureException(e.getMessage());
         }
 
         try {
-            workspaceFacade.addObjectFile(workspaceUnitKey, fileUnitKey, file);
-        } catch (FileCreationFailureException e1) {
+            repositoryExecutor.beginTransaction();
+        } catch (TransactionInitializationFailureException e) {
+            removeObjectFileQuietly(workspaceUnitKey, fileUnitKey);
+
+            processorLockService.unlock(locks);
+
+            throw new ProcessorContentUploadFailureException(e.getMessage());
+        }
+
+        try {
+            repositoryFacade.upload(location, fileUnitKey, validationSecretsApplication.getSecrets());
+        } catch (RepositoryContentApplicationFailureException e1) {
             try {
                 repositoryExecutor.rollbackTransaction();
             } catch (TransactionRollbackFailureException e2) {
-                StateService.getTransactionProcessorGuard().unlock();
+                removeObjectFileQuietly(workspaceUnitKey, fileUnitKey);
+
+                processorLockService.unlock(locks);
 
                 throw new ProcessorContentUploadFailureException(e2.getMessage());
             }
-            StateService.getTransactionProcessorGuard().unlock();
+
+            removeObjectFileQuietly(workspaceUnitKey, fileUnitKey);
+
+            processorLockService.unlock(locks);
 
             throw new ProcessorContentUploadFailureException(e1.getMessage());
         }
@@ -345,21 +415,91 @@ public class ProcessorService {
         try {
             repositoryExecutor.commitTransaction();
         } catch (TransactionCommitFailureException e) {
-            StateService.getTransactionProcessorGuard().unlock();
+            removeObjectFileQuietly(workspaceUnitKey, fileUnitKey);
+
+            processorLockService.unlock(locks);
 
             throw new ProcessorContentUploadFailureException(e.getMessage());
         }
 
-        StateService.getTransactionProcessorGuard().unlock();
+        processorLockService.unlock(locks);
 
-        StateService.getWatcherService().increaseFilesUploadCounter();
+        temporateStorageStatisticsService.addUpload(
+                fileUnitKey, countingFile.getCount(), validationSecretsApplication.getSecrets().size());
 
-        StateService.getWatcherService().increaseUploadedFilesSize(fileSize);
+        StateService.getWatcherService().recordUpload(countingFile.getCount());
 
         telemetryService.setAverageUploadFileSizeQueue(
                 StateService.getWatcherService().getAverageFileSize());
     }
 
+    /**
+     * Retrieves metadata of the given content object from ObjectStorage Temporate Storage or configured provider,
+     * without retrieving content object itself.
+     *
+     * @param location given content object location.
+     * @param validationSecretsUnit given content secrets unit.
+     * @param validationSecretsApplication given content secrets application.
+     * @return retrieved content object metadata.
+     * @throws ProcessorContentDownloadFailureException if content object metadata retrieval operation fails.
+     */
+    public ContentObjectMetadataDto retrieveObjectMetadata(
+            String location,
+            ValidationSecretsUnit validationSecretsUnit,
+            ValidationSecretsApplication validationSecretsApplication)
+            throws ProcessorContentDownloadFailureException {
+        String workspaceUnitKey = workspaceFacade.createWorkspaceUnitKey(validationSecretsApplication);
+
+        TemporateContentUnitDto temporateContentUnit;
+
+        try {
+            temporateContentUnit =
+                    repositoryFacade.retrieveTemporateContentByLocationProviderAndSecret(
+                            location, validationSecretsUnit);
+        } catch (TemporateContentRemovalFailureException e) {
+            throw new ProcessorContentDownloadFailureException(e.getMessage());
+        }
+
+        if (Objects.nonNull(temporateContentUnit)) {
+            try {
+                if (workspaceFacade.isObjectFilePresent(workspaceUnitKey, temporateContentUnit.getHash())) {
+                    return ContentObjectMetadataDto.of(
+                            temporateContentUnit.getHash(), temporateContentUnit.getCreatedAt());
+                }
+            } catch (FileExistenceCheckFailureException e) {
+                throw new ProcessorContentDownloadFailureException(e.getMessage());
+            }
+        }
+
+        RepositoryContentUnitDto repositoryContentLocationUnitDto;
+
+        try {
+            repositoryContentLocationUnitDto = repositoryFacade.retrieveContentApplication(validationSecretsUnit);
+        } catch (ContentApplicationRetrievalFailureException e) {
+            throw new ProcessorContentDownloadFailureException(e.getMessage());
+        }
+
+        ContentObjectMetadataDto contentObjectMetadata;
+
+        try {
+            contentObjectMetadata = vendorFacade.retrieveObjectMetadataFromBucket(
+                    validationSecretsUnit.getProvider(),
+                    validationSecretsUnit.getCredentials().getExternal(),
+                    VendorConfigurationHelper.createBucketName(
+                            repositoryContentLocationUnitDto.getRoot()),
+                    location);
+        } catch (SecretsConversionException | VendorOperationFailureException e) {
+            throw new ProcessorContentDownloadFailureException(e.getMessage());
+        }
+
+        if (Objects.isNull(contentObjectMetadata)) {
+            throw new ProcessorContentDownloadFailureException(
+                    new VendorObjectNotPresentException().getMessage());
+        }
+
+        return contentObjectMetadata;
+    }
+
     /**
      * Downloads given content object with the help of the given content object download application from
      * ObjectStorage Temporate Storage or configured provider.
@@ -367,10 +507,10 @@ public class ProcessorService {
      * @param location given content object location.
      * @param validationSecretsUnit given content secrets unit.
      * @param validationSecretsApplication given content secrets application.
-     * @return downloaded content object.
+     * @return downloaded content object together with metadata of the downloaded content object version.
      * @throws ProcessorContentDownloadFailureException if content object download operation fails.
      */
-    public byte[] downloadObject(
+    public ContentObjectDto downloadObject(
             String location,
             ValidationSecretsUnit validationSecretsUnit,
             ValidationSecretsApplication validationSecretsApplication)
@@ -392,7 +532,10 @@ public class ProcessorService {
         if (Objects.nonNull(temporateContentUnit)) {
             try {
                 if (workspaceFacade.isObjectFilePresent(workspaceUnitKey, temporateContentUnit.getHash())) {
-                    return workspaceFacade.getObjectFile(workspaceUnitKey, temporateContentUnit.getHash());
+                    return ContentObjectDto.of(
+                            workspaceFacade.getObjectFile(workspaceUnitKey, temporateContentUnit.getHash()),
+                            ContentObjectMetadataDto.of(
+                                    temporateContentUnit.getHash(), temporateContentUnit.getCreatedAt()));
                 }
             } catch (FileExistenceCheckFailureException | FileUnitRetrievalFailureException e) {
                 throw new ProcessorContentDownloadFailureException(e.getMessage());
@@ -483,151 +626,103 @@ public class ProcessorService {
             throws ProcessorContentRemovalFailureException {
         logger.info(String.format("Removing content object of '%s' location", location));
 
-        StateService.getTransactionProcessorGuard().lock();
-
-        try {
-            repositoryExecutor.beginTransaction();
-        } catch (TransactionInitializationFailureException e) {
-            StateService.getTransactionProcessorGuard().unlock();
-
-            throw new ProcessorContentRemovalFailureException(e.getMessage());
-        }
+        List<Lock> locks = processorLockService.lock(validationSecretsApplication);
 
         String workspaceUnitKey = workspaceFacade.createWorkspaceUnitKey(validationSecretsApplication);
 
+        List<TemporateContentUnitDto> temporateContentUnits = new ArrayList<>();
+
         for (ValidationSecretsUnit validationSecretsUnit : validationSecretsApplication.getSecrets()) {
             try {
-                repositoryFacade.removeTemporateContentByLocationProviderAndSecret(location, validationSecretsUnit);
-            } catch (TemporateContentRemovalFailureException e1) {
-                try {
-                    repositoryExecutor.rollbackTransaction();
-                } catch (TransactionRollbackFailureException e2) {
-                    StateService.getTransactionProcessorGuard().unlock();
-
-                    throw new ProcessorContentRemovalFailureException(e2.getMessage());
-                }
+                temporateContentUnits.addAll(
+                        repositoryFacade.retrieveAllTemporateContentByLocationProviderAndSecret(
+                                location, validationSecretsUnit));
+            } catch (TemporateContentRemovalFailureException e) {
+                processorLockService.unlock(locks);
 
-                StateService.getTransactionProcessorGuard().unlock();
-
-                throw new ProcessorContentRemovalFailureException(e1.getMessage());
+                throw new ProcessorContentRemovalFailureException(e.getMessage());
             }
 
             RepositoryContentUnitDto repositoryContentLocationUnitDto;
 
             try {
                 repositoryContentLocationUnitDto = repositoryFacade.retrieveContentApplication(validationSecretsUnit);
-            } catch (ContentApplicationRetrievalFailureException e1) {
-                try {
-                    repositoryExecutor.rollbackTransaction();
-                } catch (TransactionRollbackFailureException e2) {
-                    StateService.getTransactionProcessorGuard().unlock();
-
-                    throw new ProcessorContentRemovalFailureException(e2.getMessage());
-                }
-
-                StateService.getTransactionProcessorGuard().unlock();
+            } catch (ContentApplicationRetrievalFailureException e) {
+                processorLockService.unlock(locks);
 
-                throw new ProcessorContentRemovalFailureException(e1.getMessage());
+                throw new ProcessorContentRemovalFailureException(e.getMessage());
             }
 
             try {
-                if (!vendorFacade.isObjectPresentInBucket(
+                if (vendorFacade.isObjectPresentInBucket(
                         validationSecretsUnit.getProvider(),
                         validationSecretsUnit.getCredentials().getExternal(),
                         VendorConfigurationHelper.createBucketName(
                                 repositoryContentLocationUnitDto.getRoot()),
                         location)) {
-                    continue;
-                }
-            } catch (SecretsConversionException | VendorOperationFailureException e1) {
-                try {
-                    repositoryExecutor.rollbackTransaction();
-                } catch (TransactionRollbackFailureException e2) {
-                    StateService.getTransactionProcessorGuard().unlock();
-
-                    throw new ProcessorContentRemovalFailureException(e2.getMessage());
+                    vendorFacade.removeObjectFromBucket(
+                            validationSecretsUnit.getProvider(),
+                            validationSecretsUnit.getCredentials().getExternal(),
+                            VendorConfigurationHelper.createBucketName(
+                                    repositoryContentLocationUnitDto.getRoot()),
+                            location);
                 }
+            } catch (SecretsConversionException | VendorOperationFailureException e) {
+                processorLockService.unlock(locks);
 
-                StateService.getTransactionProcessorGuard().unlock();
-
-                throw new ProcessorContentRemovalFailureException(e1.getMessage());
+                throw new ProcessorContentRemovalFailureException(e.getMessage());
             }
+        }
 
-            try {
-                vendorFacade.removeObjectFromBucket(
-                        validationSecretsUnit.getProvider(),
-                        validationSecretsUnit.getCredentials().getExternal(),
-                        VendorConfigurationHelper.createBucketName(
-                                repositoryContentLocationUnitDto.getRoot()),
-                        location);
-            } catch (SecretsConversionException | VendorOperationFailureException e1) {
-                try {
-                    repositoryExecutor.rollbackTransaction();
-                } catch (TransactionRollbackFailureException e2) {
-                    StateService.getTransactionProcessorGuard().unlock();
-
-                    throw new ProcessorContentRemovalFailureException(e2.getMessage());
-                }
-
-                StateService.getTransactionProcessorGuard().unlock();
-
-                throw new ProcessorContentRemovalFailureException(e1.getMessage());
-            }
+        try {
+            repositoryExecutor.beginTransaction();
+        } catch (TransactionInitializationFailureException e) {
+            processorLockService.unlock(locks);
 
-            TemporateContentUnitDto temporateContentUnit;
+            throw new ProcessorContentRemovalFailureException(e.getMessage());
+        }
 
+        for (ValidationSecretsUnit validationSecretsUnit : validationSecretsApplication.getSecrets()) {
             try {
-                temporateContentUnit =
-                        repositoryFacade.retrieveTemporateContentByLocationProviderAndSecret(
-                                location, validationSecretsUnit);
+                repositoryFacade.removeTemporateContentByLocationProviderAndSecret(location, validationSecretsUnit);
             } catch (TemporateContentRemovalFailureException e1) {
                 try {
                     repositoryExecutor.rollbackTransaction();
                 } catch (TransactionRollbackFailureException e2) {
-                    StateService.getTransactionProcessorGuard().unlock();
+                    processorLockService.unlock(locks);
 
                     throw new ProcessorContentRemovalFailureException(e2.getMessage());
                 }
 
-                StateService.getTransactionProcessorGuard().unlock();
+                processorLockService.unlock(locks);
 
                 throw new ProcessorContentRemovalFailureException(e1.getMessage());
             }
-
-            if (Objects.nonNull(temporateContentUnit)) {
-                try {
-                    if (workspaceFacade.isObjectFilePresent(workspaceUnitKey, temporateContentUnit.getHash())) {
-                        workspaceFacade.removeObjectFile(workspaceUnitKey, temporateContentUnit.getHash());
-                    }
-                } catch (FileExistenceCheckFailureException | FileRemovalFailureException e1) {
-                    try {
-                        repositoryExecutor.rollbackTransaction();
-                    } catch (TransactionRollbackFailureException e2) {
-                        StateService.getTransactionProcessorGuard().unlock();
-
-                        throw new ProcessorContentRemovalFailureException(e2.getMessage());
-                    }
-
-                    StateService.getTransactionProcessorGuard().unlock();
-
-                    throw new ProcessorContentRemovalFailureException(e1.getMessage());
-                }
-            }
         }
 
         try {
             repositoryExecutor.commitTransaction();
         } catch (TransactionCommitFailureException e) {
-            StateService.getTransactionProcessorGuard().unlock();
+            processorLockService.unlock(locks);
 
             throw new ProcessorContentRemovalFailureException(e.getMessage());
         }
 
-        StateService.getTransactionProcessorGuard().unlock();
+        Map<String, Integer> removedHashes = new HashMap<>();
+
+        temporateContentUnits.forEach(element -> removedHashes.merge(element.getHash(), 1, Integer::sum));
+
+        removedHashes.keySet().forEach(element -> removeObjectFileQuietly(workspaceUnitKey, element));
+
+        processorLockService.unlock(locks);
+
+        removedHashes.forEach(temporateStorageStatisticsService::removeUpload);
     }
 
     /**
-     * Removes all the content from ObjectStorage Temporate Storage or configured provider.
+     * Removes all the content from ObjectStorage Temporate Storage or configured provider. Workspace, buckets and
+     * temporate records are removed under the processor locks, so concurrent uploads and temporate storage
+     * replication never observe partially removed content.
      *
      * @param validationSecretsApplication given content secrets application.
      * @throws ProcessorContentRemovalFailureException if content removal operation fails.
@@ -636,55 +731,25 @@ public class ProcessorService {
             throws ProcessorContentRemovalFailureException {
         String workspaceUnitKey = workspaceFacade.createWorkspaceUnitKey(validationSecretsApplication);
 
+        List<Lock> locks = processorLockService.lock(validationSecretsApplication);
+
         try {
             workspaceFacade.removeAll(workspaceUnitKey);
         } catch (FilesRemovalFailureException e) {
-            throw new ProcessorContentRemovalFailureException(e.getMessage());
-        }
-
-        StateService.getTransactionProcessorGuard().lock();
-
-        try {
-            repositoryExecutor.beginTransaction();
-        } catch (TransactionInitializationFailureException e) {
-            StateService.getTransactionProcessorGuard().unlock();
+            processorLockService.unlock(locks);
 
             throw new ProcessorContentRemovalFailureException(e.getMessage());
         }
 
         for (ValidationSecretsUnit validationSecretsUnit : validationSecretsApplication.getSecrets()) {
-            try {
-                repositoryFacade.removeTemporateContentByProviderAndSecret(validationSecretsUnit);
-            } catch (TemporateContentRemovalFailureException e1) {
-                try {
-                    repositoryExecutor.rollbackTransaction();
-                } catch (TransactionRollbackFailureException e2) {
-                    StateService.getTransactionProcessorGuard().unlock();
-
-                    throw new ProcessorContentRemovalFailureException(e2.getMessage());
-                }
-
-                StateService.getTransactionProcessorGuard().unlock();
-
-                throw new ProcessorContentRemovalFailureException(e1.getMessage());
-            }
-
             RepositoryContentUnitDto repositoryContentLocationUnitDto;
 
             try {
                 repositoryContentLocationUnitDto = repositoryFacade.retrieveContentApplication(validationSecretsUnit);
-            } catch (ContentApplicationRetrievalFailureException e1) {
-                try {
-                    repositoryExecutor.rollbackTransaction();
-                } catch (TransactionRollbackFailureException e2) {
-                    StateService.getTransactionProcessorGuard().unlock();
-
-                    throw new ProcessorContentRemovalFailureException(e2.getMessage());
-                }
-
-                StateService.getTransactionProcessorGuard().unlock();
+            } catch (ContentApplicationRetrievalFailureException e) {
+                processorLockService.unlock(locks);
 
-                throw new ProcessorContentRemovalFailureException(e1.getMessage());
+                throw new ProcessorContentRemovalFailureException(e.getMessage());
             }
 
             try {
@@ -694,18 +759,10 @@ public class ProcessorService {
                         VendorConfigurationHelper.createBucketName(
                                 repositoryContentLocationUnitDto.getRoot())
                 );
-            } catch (SecretsConversionException | VendorOperationFailureException e1) {
-                try {
-                    repositoryExecutor.rollbackTransaction();
-                } catch (TransactionRollbackFailureException e2) {
-                    StateService.getTransactionProcessorGuard().unlock();
-
-                    throw new ProcessorContentRemovalFailureException(e2.getMessage());
-                }
-
-                StateService.getTransactionProcessorGuard().unlock();
+            } catch (SecretsConversionException | VendorOperationFailureException e) {
+                processorLockService.unlock(locks);
 
-                throw new ProcessorContentRemovalFailureException(e1.getMessage());
+                throw new ProcessorContentRemovalFailureException(e.getMessage());
             }
 
             try {
@@ -714,16 +771,34 @@ public class ProcessorService {
                         validationSecretsUnit.getCredentials().getExternal(),
                         VendorConfigurationHelper.createBucketName(
                                 repositoryContentLocationUnitDto.getRoot()));
-            } catch (VendorOperationFailureException | SecretsConversionException e1) {
+            } catch (VendorOperationFailureException | SecretsConversionException e) {
+                processorLockService.unlock(locks);
+
+                throw new ProcessorContentRemovalFailureException(e.getMessage());
+            }
+        }
+
+        try {
+            repositoryExecutor.beginTransaction();
+        } catch (TransactionInitializationFailureException e) {
+            processorLockService.unlock(locks);
+
+            throw new ProcessorContentRemovalFailureException(e.getMessage());
+        }
+
+        for (ValidationSecretsUnit validationSecretsUnit : validationSecretsApplication.getSecrets()) {
+            try {
+                repositoryFacade.removeTemporateContentByProviderAndSecret(validationSecretsUnit);
+            } catch (TemporateContentRemovalFailureException e1) {
                 try {
                     repositoryExecutor.rollbackTransaction();
                 } catch (TransactionRollbackFailureException e2) {
-                    StateService.getTransactionProcessorGuard().unlock();
+                    processorLockService.unlock(locks);
 
                     throw new ProcessorContentRemovalFailureException(e2.getMessage());
                 }
 
-                StateService.getTransactionProcessorGuard().unlock();
+                processorLockService.unlock(locks);
 
                 throw new ProcessorContentRemovalFailureException(e1.getMessage());
             }
@@ -732,11 +807,28 @@ public class ProcessorService {
         try {
             repositoryExecutor.commitTransaction();
         } catch (TransactionCommitFailureException e) {
-            StateService.getTransactionProcessorGuard().unlock();
+            processorLockService.unlock(locks);
 
             throw new ProcessorContentRemovalFailureException(e.getMessage());
         }
 
-        StateService.getTransactionProcessorGuard().unlock();
+        processorLockService.unlock(locks);
+
+        temporateStorageStatisticsService.synchronize();
+    }
+
+    /**
+     * Removes object file from the workspace, which is no longer referenced by any temporate record. Removal failure
+     * is only logged, because such file is never replicated.
+     *
+     * @param workspaceUnitKey given user workspace unit key.
+     * @param fileUnitKey given object file unit key.
+     */
+    private void removeObjectFileQuietly(String workspaceUnitKey, String fileUnitKey) {
+        try {
+            workspaceFacade.removeObjectFile(workspaceUnitKey, fileUnitKey);
+        } catch (FileRemovalFailureException e) {
+            logger.error(e.getMessage());
+        }
     }
-}
\ No newline at end of file
+}
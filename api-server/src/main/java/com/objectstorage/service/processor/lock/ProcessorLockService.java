@@ -0,0 +1,96 @@
+package com.objectstorage.service.processor.lock;
+
+import com.google.common.util.concurrent.Striped;
+import com.objectstorage.entity.common.PropertiesEntity;
+import com.objectstorage.model.ValidationSecretsApplication;
+import com.objectstorage.service.telemetry.tracing.TracingScope;
+import com.objectstorage.service.telemetry.tracing.TracingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Service used to serialize conflicting processor operations. Each validation secrets unit is guarded by its own lock
+ * stripe, so only the operations, which share at least one secrets unit, are performed sequentially. Locks of all the
+ * secrets units of the given application are always acquired in the stripes order, which makes multi-provider
+ * operations deadlock-free.
+ */
+@ApplicationScoped
+public class ProcessorLockService implements MeterBinder {
+    @Inject
+    PropertiesEntity properties;
+
+    @Inject
+    TracingService tracingService;
+
+    private Striped<Lock> locks;
+
+    private Timer lockWaitTimer;
+
+    @PostConstruct
+    private void process() {
+        locks = Striped.lock(properties.getProcessorLockStripes());
+    }
+
+    /**
+     * Acquires locks of all the secrets units of the given validation secrets application, blocking until all of them
+     * are available.
+     *
+     * @param validationSecretsApplication given validation secrets application.
+     * @return acquired locks, which should be then released.
+     */
+    public List<Lock> lock(ValidationSecretsApplication validationSecretsApplication) {
+        List<String> keys = validationSecretsApplication.getSecrets().stream()
+                .map(element -> String.format(
+                        "%s:%d", element.getProvider().toString(), element.getCredentials().getInternal().getId()))
+                .toList();
+
+        List<Lock> result = new ArrayList<>();
+
+        long start = System.nanoTime();
+
+        try (TracingScope ignored = tracingService.startScope("processor.lock")) {
+            for (Lock lock : locks.bulkGet(keys)) {
+                lock.lock();
+
+                result.add(lock);
+            }
+        }
+
+        if (Objects.nonNull(lockWaitTimer)) {
+            lockWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        return result;
+    }
+
+    /**
+     * Releases given previously acquired locks in the reverse order.
+     *
+     * @param locks given previously acquired locks.
+     */
+    public void unlock(List<Lock> locks) {
+        locks.reversed().forEach(Lock::unlock);
+    }
+
+    /**
+     * @see MeterBinder
+     */
+    @Override
+    public void bindTo(@NotNull MeterRegistry meterRegistry) {
+        lockWaitTimer = Timer.builder("general.processor_lock_wait_time")
+                .description("Represents time spent waiting for processor operation locks")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
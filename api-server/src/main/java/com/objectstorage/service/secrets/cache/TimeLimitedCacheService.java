@@ -1,11 +1,13 @@
 package com.objectstorage.service.secrets.cache;
 
-import com.google.common.cache.Cache;
-import com.objectstorage.entity.common.PropertiesEntity;
-
-import com.google.common.cache.CacheBuilder;
+import com.objectstorage.entity.common.ConfigEntity;
+import com.objectstorage.exception.SessionStoreOperationFailureException;
 import com.objectstorage.model.ValidationSecretsApplication;
 import com.objectstorage.exception.TimeLimitedCacheKeyNotFoundException;
+import com.objectstorage.service.config.ConfigService;
+import com.objectstorage.service.secrets.session.DatabaseSessionStore;
+import com.objectstorage.service.secrets.session.LocalSessionStore;
+import com.objectstorage.service.secrets.session.SessionStore;
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -14,23 +16,33 @@ import lombok.SneakyThrows;
 import javax.crypto.KeyGenerator;
 import java.util.Base64;
 import java.util.Objects;
-import java.util.concurrent.TimeUnit;
 
 /**
- * Represents time limited cache implementation used for secrets storage.
+ * Represents time limited cache implementation used for secrets storage. Secrets are kept in the session store
+ * selected in the configuration, which is local one by default.
  */
 @ApplicationScoped
 public class TimeLimitedCacheService {
     @Inject
-    PropertiesEntity properties;
+    ConfigService configService;
+
+    @Inject
+    LocalSessionStore localSessionStore;
 
-    private Cache<String, ValidationSecretsApplication> cache;
+    @Inject
+    DatabaseSessionStore databaseSessionStore;
+
+    private SessionStore sessionStore;
 
     @PostConstruct
     private void process() {
-        cache = CacheBuilder.newBuilder()
-                .expireAfterWrite(properties.getSecretsJwtTtl(), TimeUnit.MILLISECONDS)
-                .build();
+        ConfigEntity.Session session = configService.getConfig().getSession();
+
+        if (Objects.nonNull(session) && session.getStore() == ConfigEntity.Session.Store.DATABASE) {
+            sessionStore = databaseSessionStore;
+        } else {
+            sessionStore = localSessionStore;
+        }
     }
 
     /**
@@ -48,36 +60,25 @@ public class TimeLimitedCacheService {
         while (true) {
             String key = Base64.getEncoder().encodeToString(keyGen.generateKey().getEncoded());
 
-            if (!exists(key)) {
-                cache.put(key, validationSecretsApplication);
+            if (!sessionStore.exists(key)) {
+                sessionStore.add(key, validationSecretsApplication);
 
                 return key;
             }
         }
     }
 
-    /**
-     * Checks if secrets validation application is cached with the given key.
-     *
-     * @param key secrets validation application key expected to be present in the cache.
-     * @return result of the check.
-     */
-    private Boolean exists(String key) {
-        try {
-            return Objects.nonNull(get(key));
-        } catch (TimeLimitedCacheKeyNotFoundException e) {
-            return false;
-        }
-    }
-
     /**
      * Retrieves secrets validation application from the cache.
      *
      * @param key secrets validation application key to be present in the cache.
      * @return cached secrets dto.
+     * @throws TimeLimitedCacheKeyNotFoundException if there is no such cached secrets dto.
+     * @throws SessionStoreOperationFailureException if session store operation fails.
      */
-    public ValidationSecretsApplication get(String key) throws TimeLimitedCacheKeyNotFoundException {
-        ValidationSecretsApplication result = cache.getIfPresent(key);
+    public ValidationSecretsApplication get(String key)
+            throws TimeLimitedCacheKeyNotFoundException, SessionStoreOperationFailureException {
+        ValidationSecretsApplication result = sessionStore.get(key);
 
         if (Objects.isNull(result)) {
             throw new TimeLimitedCacheKeyNotFoundException();
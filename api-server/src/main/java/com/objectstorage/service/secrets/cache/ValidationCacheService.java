@@ -0,0 +1,95 @@
+package com.objectstorage.service.secrets.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.objectstorage.entity.common.PropertiesEntity;
+import com.objectstorage.model.CredentialsFieldsExternal;
+import com.objectstorage.model.Provider;
+import com.objectstorage.service.vendor.common.VendorConfigurationHelper;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents time limited cache implementation used for credentials validation results storage. Successful and failed
+ * validation results are kept separately, so failed ones can expire sooner. Credentials are kept only as hashed keys.
+ */
+@ApplicationScoped
+public class ValidationCacheService {
+    @Inject
+    PropertiesEntity properties;
+
+    private Cache<String, Boolean> validCache;
+
+    private Cache<String, Boolean> invalidCache;
+
+    @PostConstruct
+    private void process() {
+        validCache = CacheBuilder.newBuilder()
+                .expireAfterWrite(properties.getSecretsValidationCacheTtl(), TimeUnit.MILLISECONDS)
+                .maximumSize(properties.getSecretsValidationCacheMaxSize())
+                .build();
+
+        invalidCache = CacheBuilder.newBuilder()
+                .expireAfterWrite(properties.getSecretsValidationCacheNegativeTtl(), TimeUnit.MILLISECONDS)
+                .maximumSize(properties.getSecretsValidationCacheMaxSize())
+                .build();
+    }
+
+    /**
+     * Retrieves cached validation result for the given provider credentials.
+     *
+     * @param provider given provider.
+     * @param credentialsFieldExternal given external credentials.
+     * @return cached validation result or null, if credentials were not validated recently.
+     */
+    public Boolean get(Provider provider, CredentialsFieldsExternal credentialsFieldExternal) {
+        String key = createKey(provider, credentialsFieldExternal);
+
+        if (Objects.nonNull(validCache.getIfPresent(key))) {
+            return true;
+        }
+
+        if (Objects.nonNull(invalidCache.getIfPresent(key))) {
+            return false;
+        }
+
+        return null;
+    }
+
+    /**
+     * Adds validation result for the given provider credentials to the cache.
+     *
+     * @param provider given provider.
+     * @param credentialsFieldExternal given external credentials.
+     * @param valid given validation result.
+     */
+    public void add(Provider provider, CredentialsFieldsExternal credentialsFieldExternal, Boolean valid) {
+        String key = createKey(provider, credentialsFieldExternal);
+
+        if (valid) {
+            invalidCache.invalidate(key);
+            validCache.put(key, true);
+        } else {
+            validCache.invalidate(key);
+            invalidCache.put(key, false);
+        }
+    }
+
+    /**
+     * Creates hashed cache key for the given provider credentials.
+     *
+     * @param provider given provider.
+     * @param credentialsFieldExternal given external credentials.
+     * @return created cache key.
+     */
+    private String createKey(Provider provider, CredentialsFieldsExternal credentialsFieldExternal) {
+        return VendorConfigurationHelper.createClientKey(
+                provider.toString(),
+                credentialsFieldExternal.getFile(),
+                Objects.toString(credentialsFieldExternal.getRegion(), ""));
+    }
+}
@@ -0,0 +1,93 @@
+package com.objectstorage.service.secrets.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.objectstorage.converter.DigestConverter;
+import com.objectstorage.entity.common.PropertiesEntity;
+import com.objectstorage.model.ValidationSecretsApplication;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents bounded cache of already verified jwt tokens, which allows to skip signature verification for the tokens
+ * used repeatedly. Tokens are kept only as hashed keys, and each entry is reused only until the expiration time of
+ * its token.
+ */
+@ApplicationScoped
+public class VerifiedTokenCacheService {
+    @Inject
+    PropertiesEntity properties;
+
+    private Cache<String, VerifiedToken> cache;
+
+    @PostConstruct
+    private void process() {
+        cache = CacheBuilder.newBuilder()
+                .expireAfterWrite(properties.getSecretsJwtTtl(), TimeUnit.MILLISECONDS)
+                .maximumSize(properties.getSecretsJwtVerificationCacheMaxSize())
+                .build();
+    }
+
+    /**
+     * Retrieves validation secrets application resolved for the given raw jwt token, if it's verified and not expired.
+     *
+     * @param rawToken given raw jwt token.
+     * @return resolved validation secrets application or null, if the given token was not verified recently.
+     */
+    public ValidationSecretsApplication get(String rawToken) {
+        String key = createKey(rawToken);
+
+        VerifiedToken verifiedToken = cache.getIfPresent(key);
+        if (Objects.isNull(verifiedToken)) {
+            return null;
+        }
+
+        if (verifiedToken.expiresAt <= Instant.now().getEpochSecond()) {
+            cache.invalidate(key);
+
+            return null;
+        }
+
+        return verifiedToken.validationSecretsApplication;
+    }
+
+    /**
+     * Adds validation secrets application resolved for the given verified raw jwt token to the cache.
+     *
+     * @param rawToken given verified raw jwt token.
+     * @param expiresAt given expiration time of the jwt token in seconds.
+     * @param validationSecretsApplication given resolved validation secrets application.
+     */
+    public void add(String rawToken, Long expiresAt, ValidationSecretsApplication validationSecretsApplication) {
+        cache.put(createKey(rawToken), new VerifiedToken(expiresAt, validationSecretsApplication));
+    }
+
+    /**
+     * Creates hashed cache key for the given raw jwt token.
+     *
+     * @param rawToken given raw jwt token.
+     * @return created cache key.
+     */
+    private String createKey(String rawToken) {
+        return DigestConverter.convert(rawToken);
+    }
+
+    /**
+     * Represents validation secrets application resolved for verified jwt token.
+     */
+    private static class VerifiedToken {
+        private final Long expiresAt;
+
+        private final ValidationSecretsApplication validationSecretsApplication;
+
+        private VerifiedToken(Long expiresAt, ValidationSecretsApplication validationSecretsApplication) {
+            this.expiresAt = expiresAt;
+            this.validationSecretsApplication = validationSecretsApplication;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.objectstorage.service.secrets.session;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.objectstorage.entity.common.PropertiesEntity;
+import com.objectstorage.entity.repository.SessionEntity;
+import com.objectstorage.exception.RepositoryOperationFailureException;
+import com.objectstorage.exception.SessionStoreOperationFailureException;
+import com.objectstorage.model.ValidationSecretsApplication;
+import com.objectstorage.repository.SessionRepository;
+import com.objectstorage.service.state.StateService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Represents session store implementation, which keeps secrets sessions in the internal database, so they are shared
+ * between all the instances using the same internal database. Expired sessions are removed on each session addition.
+ * Sessions contain external credentials, so they are stored encrypted with AES-GCM, using the key derived from the
+ * shared signing key, and bound to their session keys.
+ */
+@ApplicationScoped
+public class DatabaseSessionStore implements SessionStore {
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * Represents label used to derive session encryption key from the signing key.
+     */
+    private static final String ENCRYPTION_KEY_LABEL = "objectstorage-session-encryption";
+
+    private static final String CIPHER_TRANSFORMATION = "AES/GCM/NoPadding";
+
+    private static final Integer IV_LENGTH = 12;
+
+    private static final Integer TAG_LENGTH = 128;
+
+    private static final SecureRandom random = new SecureRandom();
+
+    @Inject
+    PropertiesEntity properties;
+
+    @Inject
+    SessionRepository sessionRepository;
+
+    /**
+     * @see SessionStore
+     */
+    @Override
+    public void add(String key, ValidationSecretsApplication validationSecretsApplication)
+            throws SessionStoreOperationFailureException {
+        long timestamp = Instant.now().toEpochMilli();
+
+        String data;
+
+        try {
+            data = encrypt(key, mapper.writeValueAsBytes(validationSecretsApplication));
+        } catch (JsonProcessingException | GeneralSecurityException e) {
+            throw new SessionStoreOperationFailureException(e.getMessage());
+        }
+
+        try {
+            sessionRepository.deleteExpired(timestamp);
+
+            sessionRepository.insert(key, data, timestamp + properties.getSecretsJwtTtl());
+        } catch (RepositoryOperationFailureException e) {
+            throw new SessionStoreOperationFailureException(e.getMessage());
+        }
+    }
+
+    /**
+     * @see SessionStore
+     */
+    @Override
+    public Boolean exists(String key) throws SessionStoreOperationFailureException {
+        try {
+            return sessionRepository.isPresentById(key);
+        } catch (RepositoryOperationFailureException e) {
+            throw new SessionStoreOperationFailureException(e.getMessage());
+        }
+    }
+
+    /**
+     * @see SessionStore
+     */
+    @Override
+    public ValidationSecretsApplication get(String key) throws SessionStoreOperationFailureException {
+        SessionEntity session;
+
+        try {
+            session = sessionRepository.findByIdAndNotExpired(key, Instant.now().toEpochMilli());
+        } catch (RepositoryOperationFailureException e) {
+            throw new SessionStoreOperationFailureException(e.getMessage());
+        }
+
+        if (Objects.isNull(session)) {
+            return null;
+        }
+
+        try {
+            return mapper.readValue(decrypt(key, session.getData()), ValidationSecretsApplication.class);
+        } catch (IllegalArgumentException | GeneralSecurityException | IOException e) {
+            throw new SessionStoreOperationFailureException(e.getMessage());
+        }
+    }
+
+    /**
+     * Encrypts given session data, binding it to the given session key.
+     *
+     * @param key given session key.
+     * @param data given session data.
+     * @return Base64 encoded initialization vector followed by encrypted session data.
+     * @throws GeneralSecurityException if session data encryption fails.
+     */
+    private String encrypt(String key, byte[] data) throws GeneralSecurityException {
+        byte[] iv = new byte[IV_LENGTH];
+
+        random.nextBytes(iv);
+
+        Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+        cipher.init(Cipher.ENCRYPT_MODE, getEncryptionKey(), new GCMParameterSpec(TAG_LENGTH, iv));
+        cipher.updateAAD(key.getBytes(StandardCharsets.UTF_8));
+
+        byte[] encrypted = cipher.doFinal(data);
+
+        return Base64.getEncoder().encodeToString(
+                ByteBuffer.allocate(iv.length + encrypted.length)
+                        .put(iv)
+                        .put(encrypted)
+                        .array());
+    }
+
+    /**
+     * Decrypts given session data, which is expected to be bound to the given session key.
+     *
+     * @param key given session key.
+     * @param data given Base64 encoded initialization vector followed by encrypted session data.
+     * @return decrypted session data.
+     * @throws GeneralSecurityException if session data decryption fails.
+     */
+    private byte[] decrypt(String key, String data) throws GeneralSecurityException {
+        byte[] value = Base64.getDecoder().decode(data);
+
+        if (value.length <= IV_LENGTH) {
+            throw new GeneralSecurityException("session data is malformed");
+        }
+
+        Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+        cipher.init(
+                Cipher.DECRYPT_MODE, getEncryptionKey(), new GCMParameterSpec(TAG_LENGTH, value, 0, IV_LENGTH));
+        cipher.updateAAD(key.getBytes(StandardCharsets.UTF_8));
+
+        return cipher.doFinal(value, IV_LENGTH, value.length - IV_LENGTH);
+    }
+
+    /**
+     * Derives session encryption key from the shared signing key.
+     *
+     * @return derived session encryption key.
+     * @throws GeneralSecurityException if key derivation fails.
+     */
+    private SecretKeySpec getEncryptionKey() throws GeneralSecurityException {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(StateService.getJwtSecretKey().getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+
+        return new SecretKeySpec(mac.doFinal(ENCRYPTION_KEY_LABEL.getBytes(StandardCharsets.UTF_8)), "AES");
+    }
+}
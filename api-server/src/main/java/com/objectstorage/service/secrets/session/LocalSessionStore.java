@@ -0,0 +1,54 @@
+package com.objectstorage.service.secrets.session;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.objectstorage.entity.common.PropertiesEntity;
+import com.objectstorage.model.ValidationSecretsApplication;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents session store implementation, which keeps secrets sessions in memory of the current instance.
+ */
+@ApplicationScoped
+public class LocalSessionStore implements SessionStore {
+    @Inject
+    PropertiesEntity properties;
+
+    private Cache<String, ValidationSecretsApplication> cache;
+
+    @PostConstruct
+    private void process() {
+        cache = CacheBuilder.newBuilder()
+                .expireAfterWrite(properties.getSecretsJwtTtl(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * @see SessionStore
+     */
+    @Override
+    public void add(String key, ValidationSecretsApplication validationSecretsApplication) {
+        cache.put(key, validationSecretsApplication);
+    }
+
+    /**
+     * @see SessionStore
+     */
+    @Override
+    public Boolean exists(String key) {
+        return Objects.nonNull(cache.getIfPresent(key));
+    }
+
+    /**
+     * @see SessionStore
+     */
+    @Override
+    public ValidationSecretsApplication get(String key) {
+        return cache.getIfPresent(key);
+    }
+}
@@ -0,0 +1,38 @@
+package com.objectstorage.service.secrets.session;
+
+import com.objectstorage.exception.SessionStoreOperationFailureException;
+import com.objectstorage.model.ValidationSecretsApplication;
+
+/**
+ * Represents store of secrets sessions, which keeps validation secrets applications by their session keys until
+ * the secrets token expiration.
+ */
+public interface SessionStore {
+    /**
+     * Adds given validation secrets application to the store with the given session key.
+     *
+     * @param key given session key.
+     * @param validationSecretsApplication given validation secrets application.
+     * @throws SessionStoreOperationFailureException if session store operation fails.
+     */
+    void add(String key, ValidationSecretsApplication validationSecretsApplication)
+            throws SessionStoreOperationFailureException;
+
+    /**
+     * Checks if session with the given session key is present in the store.
+     *
+     * @param key given session key.
+     * @return result of the check.
+     * @throws SessionStoreOperationFailureException if session store operation fails.
+     */
+    Boolean exists(String key) throws SessionStoreOperationFailureException;
+
+    /**
+     * Retrieves validation secrets application with the given session key from the store.
+     *
+     * @param key given session key.
+     * @return retrieved validation secrets application or null, if there is no such unexpired session.
+     * @throws SessionStoreOperationFailureException if session store operation fails.
+     */
+    ValidationSecretsApplication get(String key) throws SessionStoreOperationFailureException;
+}
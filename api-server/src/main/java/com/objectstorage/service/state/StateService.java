@@ -29,12 +29,6 @@ public class StateService {
     @Getter
     private final static ReentrantLock backupProcessorGuard = new ReentrantLock();
 
-    /**
-     * Represents ObjectStorage transaction guard.
-     */
-    @Getter
-    private final static ReentrantLock transactionProcessorGuard = new ReentrantLock();
-
     /**
      * Represents ObjectStorage watcher service instance.
      */
@@ -1,48 +1,122 @@
 package com.objectstorage.service.state.watcher;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
- * Service used to track state metrics for the current session in the application.
+ * Service used to track state metrics for the current session in the application. All the updates can be safely
+ * performed from concurrent request threads. Uploaded file size percentiles are tracked by the bound meter registry.
  */
-public class WatcherService {
+public class WatcherService implements MeterBinder {
     /**
      * Represents amount of files uploaded to ObjectStorage Temporate Storage in the current session.
      */
-    private Integer filesUploadCounter = 0;
+    private final LongAdder filesUploadCounter = new LongAdder();
+
+    /**
+     * Represents global files size uploaded in the current session.
+     */
+    private final LongAdder uploadedFilesSize = new LongAdder();
+
+    /**
+     * Represents time, when the current session was started, in milliseconds.
+     */
+    private final long sessionStart = System.currentTimeMillis();
+
+    /**
+     * Represents distribution of the uploaded file sizes, which is available after the meter registry is bound.
+     */
+    private volatile DistributionSummary uploadFileSizeSummary;
 
     /**
-     * Increases amount of files uploaded to ObjectStorage Temporate Storage in the current session.
+     * Records file of the given size uploaded to ObjectStorage Temporate Storage in the current session.
+     *
+     * @param size given size of the uploaded file in bytes.
      */
-    public void increaseFilesUploadCounter() {
-        filesUploadCounter++;
+    public void recordUpload(Long size) {
+        filesUploadCounter.increment();
+        uploadedFilesSize.add(size);
+
+        DistributionSummary summary = uploadFileSizeSummary;
+
+        if (Objects.nonNull(summary)) {
+            summary.record(size);
+        }
     }
 
     /**
-     * Represents global files size uploaded in the current session.
+     * Retrieves amount of files uploaded in the current session.
+     *
+     * @return retrieved amount of uploaded files.
      */
-    private Integer uploadedFilesSize = 0;
+    public Long getFilesUploadCounter() {
+        return filesUploadCounter.sum();
+    }
 
     /**
-     * Increases global files size uploaded in the current session with the given value.
+     * Retrieves global files size uploaded in the current session.
      *
-     * @param value given value of uploaded file size.
+     * @return retrieved uploaded files size in bytes.
      */
-    public void increaseUploadedFilesSize(Integer value) {
-        uploadedFilesSize += value;
+    public Long getUploadedFilesSize() {
+        return uploadedFilesSize.sum();
     }
 
     /**
      * Calculates average file size in the current session.
      *
-     * @return calculated average file size.
+     * @return calculated average file size in megabytes.
      */
     public Double getAverageFileSize() {
-        if (filesUploadCounter > 0) {
-            return (Double.valueOf(uploadedFilesSize) /
-                    Double.valueOf(filesUploadCounter)) /
+        long count = filesUploadCounter.sum();
+
+        if (count > 0) {
+            return ((double) uploadedFilesSize.sum() /
+                    (double) count) /
                     (double) 1024 /
                     (double) 1024;
         }
 
         return (double) 0;
     }
+
+    /**
+     * Calculates upload throughput averaged over the current session.
+     *
+     * @return calculated average upload throughput in bytes per second.
+     */
+    public Double getAverageUploadThroughput() {
+        long seconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - sessionStart));
+
+        return (double) uploadedFilesSize.sum() / (double) seconds;
+    }
+
+    /**
+     * @see MeterBinder
+     */
+    @Override
+    public void bindTo(@NotNull MeterRegistry meterRegistry) {
+        FunctionCounter.builder("general.uploaded_files_size", uploadedFilesSize, LongAdder::sum)
+                .description("Represents global files size uploaded in the current session")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        Gauge.builder("general.average_upload_throughput", this, WatcherService::getAverageUploadThroughput)
+                .description("Represents upload throughput in bytes per second averaged over the current session")
+                .register(meterRegistry);
+
+        uploadFileSizeSummary = DistributionSummary.builder("general.upload_file_size")
+                .description("Represents upload file sizes in the current session")
+                .baseUnit("bytes")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
 }
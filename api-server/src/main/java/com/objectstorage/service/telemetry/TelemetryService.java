@@ -1,135 +1,242 @@
 package com.objectstorage.service.telemetry;
 
-import com.objectstorage.entity.common.PropertiesEntity;
+import com.objectstorage.model.Provider;
 import com.objectstorage.service.config.ConfigService;
 import com.objectstorage.service.telemetry.binding.TelemetryBinding;
-import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Provides access to gather information and expose it to telemetry representation tool.
+ * Provides access to gather information and expose it to telemetry representation tool. All the updates are applied
+ * directly on the caller thread.
  */
 @ApplicationScoped
 public class TelemetryService {
-    @Inject
-    PropertiesEntity properties;
-
     @Inject
     ConfigService configService;
 
     @Inject
     TelemetryBinding telemetryBinding;
 
-    private final ConcurrentLinkedQueue<Runnable> temporateStorageFilesAmountQueue = new ConcurrentLinkedQueue<>();
+    /**
+     * Sets current amount of files in ObjectStorage Temporate Storage.
+     *
+     * @param value given value.
+     */
+    public void setTemporateStorageFilesAmount(Integer value) {
+        if (configService.getConfig().getDiagnostics().getEnabled()) {
+            telemetryBinding.getTemporateStorageFilesAmount().set(value);
+        }
+    }
 
-    private final ConcurrentLinkedQueue<Runnable> currentCloudServiceUploadsQueue = new ConcurrentLinkedQueue<>();
+    /**
+     * Increases current cloud service uploads from ObjectStorage Temporate Storage.
+     */
+    public void increaseCurrentCloudServiceUploads() {
+        if (configService.getConfig().getDiagnostics().getEnabled()) {
+            telemetryBinding.getCurrentCloudServiceUploadsAmount().increment();
+        }
+    }
 
-    private final ConcurrentLinkedQueue<Runnable> cloudServiceUploadRetriesQueue = new ConcurrentLinkedQueue<>();
+    /**
+     * Increases cloud service upload retries form ObjectStorage Temporate Storage.
+     */
+    public void increaseCloudServiceUploadRetries() {
+        if (configService.getConfig().getDiagnostics().getEnabled()) {
+            telemetryBinding.getCloudServiceUploadRetries().increment();
+        }
+    }
 
-    private final ConcurrentLinkedQueue<Runnable> averageUploadFileSizeQueue = new ConcurrentLinkedQueue<>();
+    /**
+     * Sets average upload file size to ObjectStorage Temporate Storage.
+     *
+     * @param value given value.
+     */
+    public void setAverageUploadFileSizeQueue(Double value) {
+        if (configService.getConfig().getDiagnostics().getEnabled()) {
+            telemetryBinding.getAverageUploadFileSize().set(value);
+        }
+    }
 
-    private final ConcurrentLinkedQueue<Runnable> currentBackupsAmountQueue = new ConcurrentLinkedQueue<>();
+    /**
+     * Increases performed cloud service backup operations.
+     */
+    public void increaseCurrentBackupsAmount() {
+        if (configService.getConfig().getDiagnostics().getEnabled()) {
+            telemetryBinding.getCurrentBackupsAmount().increment();
+        }
+    }
 
-    private final static ScheduledExecutorService scheduledExecutorService =
-            Executors.newScheduledThreadPool(0, Thread.ofVirtual().factory());
+    /**
+     * Increases vendor write operations, which were not confirmed by background verification.
+     */
+    public void increaseVendorVerificationMismatches() {
+        if (configService.getConfig().getDiagnostics().getEnabled()) {
+            telemetryBinding.getVendorVerificationMismatches().increment();
+        }
+    }
 
     /**
-     * Starts telemetries listener, which handles incoming telemetries to be processed in a sequential way.
+     * Increases amount of open database statements.
      */
-    @PostConstruct
-    private void configure() {
-        scheduledExecutorService.scheduleWithFixedDelay(() -> {
-            if (!temporateStorageFilesAmountQueue.isEmpty()) {
-                temporateStorageFilesAmountQueue.poll().run();
-            }
-        }, 0, properties.getDiagnosticsScrapeDelay(), TimeUnit.MILLISECONDS);
+    public void increaseOpenDatabaseStatements() {
+        if (configService.getConfig().getDiagnostics().getEnabled()) {
+            telemetryBinding.getOpenDatabaseStatementsAmount().increment();
+        }
+    }
 
-        scheduledExecutorService.scheduleWithFixedDelay(() -> {
-            if (!currentCloudServiceUploadsQueue.isEmpty()) {
-                currentCloudServiceUploadsQueue.poll().run();
-            }
-        }, 0, properties.getDiagnosticsScrapeDelay(), TimeUnit.MILLISECONDS);
+    /**
+     * Decreases amount of open database statements.
+     */
+    public void decreaseOpenDatabaseStatements() {
+        if (configService.getConfig().getDiagnostics().getEnabled()) {
+            telemetryBinding.getOpenDatabaseStatementsAmount().decrement();
+        }
+    }
 
-        scheduledExecutorService.scheduleWithFixedDelay(() -> {
-            if (!cloudServiceUploadRetriesQueue.isEmpty()) {
-                cloudServiceUploadRetriesQueue.poll().run();
-            }
-        }, 0, properties.getDiagnosticsScrapeDelay(), TimeUnit.MILLISECONDS);
+    /**
+     * Increases amount of open database cursors.
+     */
+    public void increaseOpenDatabaseCursors() {
+        if (configService.getConfig().getDiagnostics().getEnabled()) {
+            telemetryBinding.getOpenDatabaseCursorsAmount().increment();
+        }
+    }
 
-        scheduledExecutorService.scheduleWithFixedDelay(() -> {
-            if (!averageUploadFileSizeQueue.isEmpty()) {
-                averageUploadFileSizeQueue.poll().run();
-            }
-        }, 0, properties.getDiagnosticsScrapeDelay(), TimeUnit.MILLISECONDS);
+    /**
+     * Decreases amount of open database cursors.
+     */
+    public void decreaseOpenDatabaseCursors() {
+        if (configService.getConfig().getDiagnostics().getEnabled()) {
+            telemetryBinding.getOpenDatabaseCursorsAmount().decrement();
+        }
+    }
 
-        scheduledExecutorService.scheduleWithFixedDelay(() -> {
-            if (!currentBackupsAmountQueue.isEmpty()) {
-                currentBackupsAmountQueue.poll().run();
-            }
-        }, 0, properties.getDiagnosticsScrapeDelay(), TimeUnit.MILLISECONDS);
+    /**
+     * Records duration of the vendor operation started at the given time.
+     *
+     * @param provider given external provider.
+     * @param operation given vendor operation name.
+     * @param start given start time of the operation in nanoseconds.
+     */
+    public void recordVendorOperation(Provider provider, String operation, Long start) {
+        if (configService.getConfig().getDiagnostics().getEnabled()) {
+            telemetryBinding.getOperationTimer(
+                            "general.vendor_operation_duration",
+                            "Represents duration of vendor operations",
+                            "provider", provider.toString(),
+                            "operation", operation)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
     }
 
     /**
-     * Sets current amount of files in ObjectStorage Temporate Storage.
+     * Increases amount of bytes transferred to or from vendor.
      *
-     * @param value given value.
+     * @param provider given external provider.
+     * @param direction given transfer direction, which is either "upload" or "download".
+     * @param value given amount of transferred bytes.
      */
-    public void setTemporateStorageFilesAmount(Integer value) {
+    public void increaseVendorTransferredBytes(Provider provider, String direction, Long value) {
         if (configService.getConfig().getDiagnostics().getEnabled()) {
-            temporateStorageFilesAmountQueue.add(
-                    () -> telemetryBinding.getTemporateStorageFilesAmount().set(value));
+            telemetryBinding.getOperationCounter(
+                            "general.vendor_transferred_bytes",
+                            "Represents amount of bytes transferred to or from vendors",
+                            "provider", provider.toString(),
+                            "direction", direction)
+                    .increment(value);
         }
     }
 
     /**
-     * Increases current cloud service uploads from ObjectStorage Temporate Storage.
+     * Records duration of the internal database query started at the given time.
+     *
+     * @param statement given statement name.
+     * @param start given start time of the query in nanoseconds.
      */
-    public void increaseCurrentCloudServiceUploads() {
+    public void recordRepositoryQuery(String statement, Long start) {
         if (configService.getConfig().getDiagnostics().getEnabled()) {
-            currentCloudServiceUploadsQueue.add(
-                    () -> telemetryBinding.getCurrentCloudServiceUploadsAmount().set(
-                            telemetryBinding.getCurrentCloudServiceUploadsAmount().get() + 1));
+            telemetryBinding.getOperationTimer(
+                            "general.repository_query_duration",
+                            "Represents duration of internal database queries",
+                            "statement", statement)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
     }
 
     /**
-     * Increases cloud service upload retries form ObjectStorage Temporate Storage.
+     * Records duration of the workspace operation started at the given time.
+     *
+     * @param operation given workspace operation name, which is either "read", "write" or "compress".
+     * @param start given start time of the operation in nanoseconds.
      */
-    public void increaseCloudServiceUploadRetries() {
+    public void recordWorkspaceOperation(String operation, Long start) {
         if (configService.getConfig().getDiagnostics().getEnabled()) {
-            cloudServiceUploadRetriesQueue.add(
-                    () -> telemetryBinding.getCloudServiceUploadRetries().set(
-                            telemetryBinding.getCloudServiceUploadRetries().get() + 1));
+            telemetryBinding.getOperationTimer(
+                            "general.workspace_operation_duration",
+                            "Represents duration of workspace operations",
+                            "operation", operation)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
     }
 
     /**
-     * Sets average upload file size to ObjectStorage Temporate Storage.
+     * Increases amount of bytes processed by workspace.
      *
-     * @param value given value.
+     * @param operation given workspace operation name, which is either "read", "write" or "compress".
+     * @param value given amount of processed bytes.
      */
-    public void setAverageUploadFileSizeQueue(Double value) {
+    public void increaseWorkspaceTransferredBytes(String operation, Long value) {
         if (configService.getConfig().getDiagnostics().getEnabled()) {
-            averageUploadFileSizeQueue.add(
-                    () -> telemetryBinding.getAverageUploadFileSize().set(value));
+            telemetryBinding.getOperationCounter(
+                            "general.workspace_transferred_bytes",
+                            "Represents amount of bytes processed by workspace",
+                            "operation", operation)
+                    .increment(value);
         }
     }
 
     /**
-     * Increases performed cloud service backup operations.
+     * Records time passed from the upload of the content to its acknowledgement by the given provider.
+     *
+     * @param provider given provider name.
+     * @param value given replication lag in milliseconds.
      */
-    public void increaseCurrentBackupsAmount() {
+    public void recordTemporateStorageReplicationLag(String provider, Long value) {
+        if (configService.getConfig().getDiagnostics().getEnabled()) {
+            telemetryBinding.getOperationTimer(
+                            "general.temporate_storage_replication_lag",
+                            "Represents time from content upload to its acknowledgement by provider",
+                            "provider", provider)
+                    .record(value, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Increases amount of files drained from ObjectStorage Temporate Storage.
+     */
+    public void increaseTemporateStorageDrainedFiles() {
+        if (configService.getConfig().getDiagnostics().getEnabled()) {
+            telemetryBinding.getOperationCounter(
+                            "general.temporate_storage_drained_files",
+                            "Represents amount of files replicated from ObjectStorage Temporate Storage")
+                    .increment();
+        }
+    }
+
+    /**
+     * Increases amount of bytes drained from ObjectStorage Temporate Storage.
+     *
+     * @param value given amount of drained bytes.
+     */
+    public void increaseTemporateStorageDrainedBytes(Long value) {
         if (configService.getConfig().getDiagnostics().getEnabled()) {
-            currentBackupsAmountQueue.add(
-                    () -> telemetryBinding.getCurrentBackupsAmount().set(
-                            telemetryBinding.getCurrentBackupsAmount().get() + 1));
+            telemetryBinding.getOperationCounter(
+                            "general.temporate_storage_drained_bytes",
+                            "Represents amount of bytes replicated from ObjectStorage Temporate Storage")
+                    .increment(value);
         }
     }
 }
@@ -1,49 +1,122 @@
 package com.objectstorage.service.telemetry.binding;
 
 import com.google.common.util.concurrent.AtomicDouble;
-import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import jakarta.enterprise.context.ApplicationScoped;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Service used to create custom telemetry bindings used to distribute application metrics.
+ * Service used to create custom telemetry bindings used to distribute application metrics. Monotonic and frequently
+ * updated values are kept in LongAdder instances, so concurrent updates don't contend with each other.
  */
 @Getter
 @ApplicationScoped
 public class TelemetryBinding implements MeterBinder {
     private final AtomicInteger temporateStorageFilesAmount = new AtomicInteger();
 
-    private final AtomicInteger currentCloudServiceUploadsAmount = new AtomicInteger();
+    private final LongAdder currentCloudServiceUploadsAmount = new LongAdder();
 
-    private final AtomicInteger cloudServiceUploadRetries = new AtomicInteger();
+    private final LongAdder cloudServiceUploadRetries = new LongAdder();
 
     private final AtomicLong configuredTemporateStorageAwaitTime = new AtomicLong();
 
     private final AtomicDouble averageUploadFileSize = new AtomicDouble();
 
-    private final AtomicInteger currentBackupsAmount = new AtomicInteger();
+    private final LongAdder currentBackupsAmount = new LongAdder();
+
+    private final LongAdder vendorVerificationMismatches = new LongAdder();
+
+    private final LongAdder openDatabaseStatementsAmount = new LongAdder();
+
+    private final LongAdder openDatabaseCursorsAmount = new LongAdder();
+
+    /**
+     * Represents registry of operation meters, which are created on demand and forwarded to the registry given to
+     * this binding.
+     */
+    @Getter(AccessLevel.NONE)
+    private final CompositeMeterRegistry operationRegistry = new CompositeMeterRegistry();
+
+    @Getter(AccessLevel.NONE)
+    private final ConcurrentHashMap<String, Timer> operationTimers = new ConcurrentHashMap<>();
+
+    @Getter(AccessLevel.NONE)
+    private final ConcurrentHashMap<String, Counter> operationCounters = new ConcurrentHashMap<>();
+
+    /**
+     * Retrieves operation timer with percentile histogram of the given name and tags, creating it, if needed.
+     *
+     * @param name given timer name.
+     * @param description given timer description.
+     * @param tags given timer tags as key and value pairs.
+     * @return retrieved operation timer.
+     */
+    public Timer getOperationTimer(String name, String description, String... tags) {
+        return operationTimers.computeIfAbsent(
+                createOperationMeterKey(name, tags),
+                key -> Timer.builder(name)
+                        .description(description)
+                        .tags(tags)
+                        .publishPercentileHistogram()
+                        .register(operationRegistry));
+    }
+
+    /**
+     * Retrieves operation counter of the given name and tags, creating it, if needed.
+     *
+     * @param name given counter name.
+     * @param description given counter description.
+     * @param tags given counter tags as key and value pairs.
+     * @return retrieved operation counter.
+     */
+    public Counter getOperationCounter(String name, String description, String... tags) {
+        return operationCounters.computeIfAbsent(
+                createOperationMeterKey(name, tags),
+                key -> Counter.builder(name)
+                        .description(description)
+                        .tags(tags)
+                        .register(operationRegistry));
+    }
+
+    /**
+     * Creates key of the operation meter with the given name and tags.
+     *
+     * @param name given meter name.
+     * @param tags given meter tags as key and value pairs.
+     * @return created operation meter key.
+     */
+    private static String createOperationMeterKey(String name, String... tags) {
+        return String.format("%s:%s", name, String.join(":", tags));
+    }
 
     /**
      * @see MeterBinder
      */
     @Override
     public void bindTo(@NotNull MeterRegistry meterRegistry) {
+        operationRegistry.add(meterRegistry);
+
         Gauge.builder("general.temporate_storage_files_amount", temporateStorageFilesAmount, AtomicInteger::get)
                 .description("Represents amount of files in ObjectStorage Temporate Storage")
                 .register(meterRegistry);
 
-        Gauge.builder("general.current_cloud_service_uploads_amount", currentCloudServiceUploadsAmount, AtomicInteger::get)
+        Gauge.builder("general.current_cloud_service_uploads_amount", currentCloudServiceUploadsAmount, LongAdder::sum)
                 .description("Represents amount of uploads to different cloud services in the current session")
                 .register(meterRegistry);
 
-        Gauge.builder("general.cloud_service_upload_retries", cloudServiceUploadRetries, AtomicInteger::get)
+        Gauge.builder("general.cloud_service_upload_retries", cloudServiceUploadRetries, LongAdder::sum)
                 .description("Represents cloud service uploads retries from ObjectStorage Temporate Storage")
                 .register(meterRegistry);
 
@@ -55,8 +128,20 @@ public class TelemetryBinding implements MeterBinder {
                 .description("Represents average upload file size in ObjectStorage Temporate Storage")
                 .register(meterRegistry);
 
-        Gauge.builder("general.current_backups_amount", currentBackupsAmount, AtomicInteger::get)
+        Gauge.builder("general.current_backups_amount", currentBackupsAmount, LongAdder::sum)
                 .description("Represents amount of performed cloud service backup operation in the current session")
                 .register(meterRegistry);
+
+        Gauge.builder("general.vendor_verification_mismatches", vendorVerificationMismatches, LongAdder::sum)
+                .description("Represents amount of vendor write operations, which were not confirmed by verification")
+                .register(meterRegistry);
+
+        Gauge.builder("general.open_database_statements_amount", openDatabaseStatementsAmount, LongAdder::sum)
+                .description("Represents amount of currently open database statements, including cached ones")
+                .register(meterRegistry);
+
+        Gauge.builder("general.open_database_cursors_amount", openDatabaseCursorsAmount, LongAdder::sum)
+                .description("Represents amount of currently open database result cursors")
+                .register(meterRegistry);
     }
 }
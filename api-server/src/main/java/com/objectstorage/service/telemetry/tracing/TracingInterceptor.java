@@ -0,0 +1,42 @@
+package com.objectstorage.service.telemetry.tracing;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * Interceptor used to record invocations of the {@link Traced} beans as spans.
+ */
+@Traced
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION)
+public class TracingInterceptor {
+    @Inject
+    TracingService tracingService;
+
+    /**
+     * Records the given invocation as a span, which is marked as failed, if the invocation throws.
+     *
+     * @param context given invocation context.
+     * @return invocation result.
+     * @throws Exception if the invocation fails.
+     */
+    @AroundInvoke
+    public Object trace(InvocationContext context) throws Exception {
+        try (TracingScope scope = tracingService.startScope(
+                String.format(
+                        "%s.%s",
+                        context.getMethod().getDeclaringClass().getSimpleName(),
+                        context.getMethod().getName()))) {
+            try {
+                return context.proceed();
+            } catch (Exception e) {
+                scope.fail(e);
+
+                throw e;
+            }
+        }
+    }
+}
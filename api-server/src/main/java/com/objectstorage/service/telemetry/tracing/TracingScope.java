@@ -0,0 +1,39 @@
+package com.objectstorage.service.telemetry.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Scope;
+
+/**
+ * Represents span, which is made current for the calling thread, until the scope is closed. Closing the scope ends
+ * the span.
+ */
+public class TracingScope implements AutoCloseable {
+    private final Span span;
+
+    private final Scope scope;
+
+    TracingScope(Span span) {
+        this.span = span;
+        this.scope = span.makeCurrent();
+    }
+
+    /**
+     * Marks the span as failed with the given cause.
+     *
+     * @param cause given failure cause.
+     */
+    public void fail(Throwable cause) {
+        span.recordException(cause);
+        span.setStatus(StatusCode.ERROR);
+    }
+
+    /**
+     * @see AutoCloseable
+     */
+    @Override
+    public void close() {
+        scope.close();
+        span.end();
+    }
+}
@@ -0,0 +1,182 @@
+package com.objectstorage.service.telemetry.tracing;
+
+import com.objectstorage.entity.common.ConfigEntity;
+import com.objectstorage.entity.common.PropertiesEntity;
+import com.objectstorage.exception.TracingExporterCreationFailureException;
+import com.objectstorage.service.config.ConfigService;
+import com.objectstorage.service.telemetry.tracing.exporter.FileSpanExporter;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.exporter.otlp.trace.OtlpGrpcSpanExporter;
+import io.opentelemetry.exporter.otlp.trace.OtlpGrpcSpanExporterBuilder;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.quarkus.runtime.Startup;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Service used to record spans of uploads, temporate storage replication and vendor calls. When tracing is not
+ * configured, all the recorded spans are no-op.
+ */
+@Startup(value = 550)
+@ApplicationScoped
+public class TracingService {
+    private static final String TRACER_NAME = "com.objectstorage";
+
+    private static final String TRACE_PARENT_KEY = "traceparent";
+
+    private static final TextMapGetter<Map<String, String>> TRACE_CONTEXT_GETTER = new TextMapGetter<>() {
+        @Override
+        public Iterable<String> keys(Map<String, String> carrier) {
+            return carrier.keySet();
+        }
+
+        @Override
+        public String get(Map<String, String> carrier, String key) {
+            return Objects.isNull(carrier) ? null : carrier.get(key);
+        }
+    };
+
+    @Inject
+    ConfigService configService;
+
+    @Inject
+    PropertiesEntity properties;
+
+    private SdkTracerProvider tracerProvider;
+
+    private Tracer tracer = OpenTelemetry.noop().getTracer(TRACER_NAME);
+
+    /**
+     * Performs tracer configuration with the configured exporter.
+     *
+     * @throws TracingExporterCreationFailureException if tracing exporter creation fails.
+     */
+    @PostConstruct
+    private void process() throws TracingExporterCreationFailureException {
+        ConfigEntity.Diagnostics diagnostics = configService.getConfig().getDiagnostics();
+
+        if (!diagnostics.getEnabled() ||
+                Objects.isNull(diagnostics.getTracing()) ||
+                !diagnostics.getTracing().getEnabled()) {
+            return;
+        }
+
+        SpanExporter exporter = switch (diagnostics.getTracing().getExporter()) {
+            case FILE -> new FileSpanExporter(Path.of(properties.getDiagnosticsTracingFileLocation()));
+            case OTLP -> {
+                OtlpGrpcSpanExporterBuilder builder = OtlpGrpcSpanExporter.builder();
+
+                if (Objects.nonNull(diagnostics.getTracing().getEndpoint())) {
+                    builder.setEndpoint(diagnostics.getTracing().getEndpoint());
+                }
+
+                yield builder.build();
+            }
+        };
+
+        tracerProvider = SdkTracerProvider.builder()
+                .setResource(Resource.getDefault().merge(
+                        Resource.create(Attributes.of(
+                                AttributeKey.stringKey("service.name"),
+                                properties.getDiagnosticsTracingServiceName()))))
+                .addSpanProcessor(BatchSpanProcessor.builder(exporter).build())
+                .build();
+
+        tracer = tracerProvider.get(TRACER_NAME);
+    }
+
+    /**
+     * Flushes all the recorded spans after execution is finished.
+     */
+    @PreDestroy
+    private void close() {
+        if (Objects.nonNull(tracerProvider)) {
+            tracerProvider.close();
+        }
+    }
+
+    /**
+     * Starts span with the given name as a child of the current one.
+     *
+     * @param name given span name.
+     * @param attributes given span attributes as key and value pairs.
+     * @return started span scope, which should be then closed.
+     */
+    public TracingScope startScope(String name, String... attributes) {
+        return new TracingScope(createSpanBuilder(name, attributes).startSpan());
+    }
+
+    /**
+     * Starts root span with the given name, which is linked to the span of the given W3C trace context.
+     *
+     * @param name given span name.
+     * @param traceParent given W3C trace context of the linked span, which can be null.
+     * @param attributes given span attributes as key and value pairs.
+     * @return started span scope, which should be then closed.
+     */
+    public TracingScope startLinkedScope(String name, String traceParent, String... attributes) {
+        SpanBuilder builder = createSpanBuilder(name, attributes).setNoParent();
+
+        if (Objects.nonNull(traceParent)) {
+            SpanContext linked = Span.fromContext(
+                    W3CTraceContextPropagator.getInstance().extract(
+                            Context.root(), Map.of(TRACE_PARENT_KEY, traceParent), TRACE_CONTEXT_GETTER))
+                    .getSpanContext();
+
+            if (linked.isValid()) {
+                builder.addLink(linked);
+            }
+        }
+
+        return new TracingScope(builder.startSpan());
+    }
+
+    /**
+     * Retrieves W3C trace context of the current span.
+     *
+     * @return retrieved W3C trace context or null, if there is no recorded current span.
+     */
+    public String getTraceParent() {
+        Map<String, String> carrier = new HashMap<>();
+
+        W3CTraceContextPropagator.getInstance().inject(Context.current(), carrier, Map::put);
+
+        return carrier.get(TRACE_PARENT_KEY);
+    }
+
+    /**
+     * Creates span builder with the given name and attributes.
+     *
+     * @param name given span name.
+     * @param attributes given span attributes as key and value pairs.
+     * @return created span builder.
+     */
+    private SpanBuilder createSpanBuilder(String name, String... attributes) {
+        SpanBuilder builder = tracer.spanBuilder(name);
+
+        for (int i = 0; i + 1 < attributes.length; i += 2) {
+            builder.setAttribute(attributes[i], attributes[i + 1]);
+        }
+
+        return builder;
+    }
+}
@@ -0,0 +1,129 @@
+package com.objectstorage.service.telemetry.tracing.exporter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.objectstorage.exception.TracingExporterCreationFailureException;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents span exporter, which appends recorded spans to the local file as JSON lines, so traces can be inspected
+ * without any collector deployed.
+ */
+public class FileSpanExporter implements SpanExporter {
+    private static final Logger logger = LogManager.getLogger(FileSpanExporter.class);
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final BufferedWriter writer;
+
+    public FileSpanExporter(Path location) throws TracingExporterCreationFailureException {
+        try {
+            Files.createDirectories(location.getParent());
+
+            writer = Files.newBufferedWriter(
+                    location, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new TracingExporterCreationFailureException(e.getMessage());
+        }
+    }
+
+    /**
+     * @see SpanExporter
+     */
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            for (SpanData span : spans) {
+                writer.write(composeRecord(span));
+                writer.newLine();
+            }
+
+            writer.flush();
+        } catch (IOException e) {
+            logger.error(e.getMessage());
+
+            return CompletableResultCode.ofFailure();
+        }
+
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * @see SpanExporter
+     */
+    @Override
+    public synchronized CompletableResultCode flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            logger.error(e.getMessage());
+
+            return CompletableResultCode.ofFailure();
+        }
+
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * @see SpanExporter
+     */
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            logger.error(e.getMessage());
+
+            return CompletableResultCode.ofFailure();
+        }
+
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * Composes JSON record of the given span.
+     *
+     * @param span given span.
+     * @return composed JSON record.
+     * @throws JsonProcessingException if JSON record composition fails.
+     */
+    private String composeRecord(SpanData span) throws JsonProcessingException {
+        Map<String, Object> record = new LinkedHashMap<>();
+
+        record.put("trace_id", span.getTraceId());
+        record.put("span_id", span.getSpanId());
+        record.put("parent_span_id", span.getParentSpanContext().isValid() ? span.getParentSpanId() : null);
+        record.put("name", span.getName());
+        record.put("kind", span.getKind().toString());
+        record.put("start_time", TimeUnit.NANOSECONDS.toMillis(span.getStartEpochNanos()));
+        record.put("duration", TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos()));
+        record.put("status", span.getStatus().getStatusCode().toString());
+
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), value));
+        record.put("attributes", attributes);
+
+        record.put("links", span.getLinks().stream()
+                .map(LinkData::getSpanContext)
+                .map(element -> Map.of("trace_id", element.getTraceId(), "span_id", element.getSpanId()))
+                .toList());
+
+        return mapper.writeValueAsString(record);
+    }
+}
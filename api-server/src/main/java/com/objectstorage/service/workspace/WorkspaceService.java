@@ -1,13 +1,16 @@
 package com.objectstorage.service.workspace;
 
+import com.objectstorage.converter.DigestConverter;
 import com.objectstorage.dto.FolderContentUnitDto;
 import com.objectstorage.entity.common.PropertiesEntity;
 import com.objectstorage.exception.*;
 import com.objectstorage.exception.FileNotFoundException;
+import com.objectstorage.service.telemetry.TelemetryService;
+import com.objectstorage.service.telemetry.tracing.TracingScope;
+import com.objectstorage.service.telemetry.tracing.TracingService;
 import com.objectstorage.service.workspace.common.WorkspaceConfigurationHelper;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import jakarta.xml.bind.DatatypeConverter;
 
 import java.io.*;
 import java.nio.file.DirectoryStream;
@@ -15,7 +18,6 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.BasicFileAttributes;
-import java.security.MessageDigest;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -25,7 +27,6 @@ import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
-import lombok.SneakyThrows;
 import org.apache.commons.io.FileUtils;
 import org.springframework.util.FileSystemUtils;
 
@@ -37,16 +38,20 @@ public class WorkspaceService {
     @Inject
     PropertiesEntity properties;
 
+    @Inject
+    TelemetryService telemetryService;
+
+    @Inject
+    TracingService tracingService;
+
     /**
      * Creates unit key from the given segments.
      *
      * @param segments given segments to be used for unit key creation.
      * @return created unit key from the given segments.
      */
-    @SneakyThrows
     public String createUnitKey(String... segments) {
-        MessageDigest md = MessageDigest.getInstance("SHA3-256");
-        return DatatypeConverter.printHexBinary(md.digest(String.join(".", segments).getBytes()));
+        return DigestConverter.convert(String.join(".", segments));
     }
 
     /**
@@ -155,11 +160,17 @@ public class WorkspaceService {
 
         File file = new File(directoryPath.toString());
 
-        try {
+        long start = System.nanoTime();
+
+        try (TracingScope ignored = tracingService.startScope("workspace.write")) {
             FileUtils.writeByteArrayToFile(file, input);
         } catch (IOException e) {
             throw new FileWriteFailureException(e.getMessage());
+        } finally {
+            telemetryService.recordWorkspaceOperation("write", start);
         }
+
+        telemetryService.increaseWorkspaceTransferredBytes("write", (long) input.length);
     }
 
     /**
@@ -211,11 +222,21 @@ public class WorkspaceService {
             FileNotFoundException {
         Path contentDirectoryPath = Path.of(workspaceUnitDirectory, type, name);
 
-        try {
-            return FileUtils.readFileToByteArray(new File(contentDirectoryPath.toString()));
+        long start = System.nanoTime();
+
+        byte[] result;
+
+        try (TracingScope ignored = tracingService.startScope("workspace.read")) {
+            result = FileUtils.readFileToByteArray(new File(contentDirectoryPath.toString()));
         } catch (IOException e) {
             throw new FileNotFoundException(e.getMessage());
+        } finally {
+            telemetryService.recordWorkspaceOperation("read", start);
         }
+
+        telemetryService.increaseWorkspaceTransferredBytes("read", (long) result.length);
+
+        return result;
     }
 
     /**
@@ -302,7 +323,10 @@ public class WorkspaceService {
             InputCompressionFailureException {
         ByteArrayOutputStream result = new ByteArrayOutputStream();
 
-        try (ZipOutputStream writer = new ZipOutputStream(result)) {
+        long start = System.nanoTime();
+
+        try (TracingScope ignored = tracingService.startScope("workspace.compress");
+             ZipOutputStream writer = new ZipOutputStream(result)) {
             writer.putNextEntry(new ZipEntry(properties.getWorkspaceCompressionFileName()));
 
             writer.write(inputStream.readAllBytes());
@@ -313,8 +337,12 @@ public class WorkspaceService {
 
         } catch (IOException e) {
             throw new InputCompressionFailureException(e.getMessage());
+        } finally {
+            telemetryService.recordWorkspaceOperation("compress", start);
         }
 
+        telemetryService.increaseWorkspaceTransferredBytes("compress", (long) result.size());
+
         return result.toByteArray();
     }
 
@@ -331,7 +359,10 @@ public class WorkspaceService {
             InputCompressionFailureException {
         ByteArrayOutputStream result = new ByteArrayOutputStream();
 
-        try (ZipOutputStream writer = new ZipOutputStream(result)) {
+        long start = System.nanoTime();
+
+        try (TracingScope ignored = tracingService.startScope("workspace.compress");
+             ZipOutputStream writer = new ZipOutputStream(result)) {
             writer.setMethod(ZipOutputStream.DEFLATED);
             writer.setLevel(Deflater.NO_COMPRESSION);
 
@@ -353,8 +384,12 @@ public class WorkspaceService {
 
         } catch (IOException e) {
             throw new InputCompressionFailureException(e.getMessage());
+        } finally {
+            telemetryService.recordWorkspaceOperation("compress", start);
         }
 
+        telemetryService.increaseWorkspaceTransferredBytes("compress", (long) result.size());
+
         return result.toByteArray();
     }
 
@@ -1,5 +1,7 @@
 package com.objectstorage.service.workspace.facade;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.objectstorage.dto.FolderContentUnitDto;
 import com.objectstorage.entity.common.PropertiesEntity;
 import com.objectstorage.exception.*;
@@ -7,8 +9,10 @@ import com.objectstorage.model.ContentRetrievalBackupUnit;
 import com.objectstorage.model.ValidationSecretsApplication;
 import com.objectstorage.service.config.ConfigService;
 import com.objectstorage.service.workspace.WorkspaceService;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import lombok.SneakyThrows;
 
 import java.io.*;
 import java.nio.file.Path;
@@ -31,28 +35,42 @@ public class WorkspaceFacade {
     @Inject
     WorkspaceService workspaceService;
 
+    private Cache<ValidationSecretsApplication, String> unitKeyCache;
+
+    @PostConstruct
+    private void process() {
+        unitKeyCache = CacheBuilder.newBuilder()
+                .weakKeys()
+                .maximumSize(properties.getWorkspaceUnitKeyCacheMaxSize())
+                .build();
+    }
+
     /**
-     * Creates workspace unit key with the help of the given provider and credentials.
+     * Creates workspace unit key with the help of the given provider and credentials. Created unit key is reused for
+     * the same validation secrets application instance, which is kept by the session store and verified tokens cache,
+     * so repeated requests of the same session don't hash the external credentials again.
      *
      * @param validationSecretsApplication given validation secrets application.
      * @return created workspace unit key.
      */
+    @SneakyThrows
     public String createWorkspaceUnitKey(ValidationSecretsApplication validationSecretsApplication) {
-        return validationSecretsApplication.getSecrets().stream()
-                .sorted(Comparator.comparing(element -> element.getProvider().toString()))
-                .map(element ->
-            switch (element.getProvider()) {
-                case S3 -> workspaceService.createUnitKey(
-                        element.getProvider().toString(),
-                        String.valueOf(element.getCredentials().getInternal().getId()),
-                        element.getCredentials().getExternal().getFile(),
-                        element.getCredentials().getExternal().getRegion());
-                case GCS -> workspaceService.createUnitKey(
-                        element.getProvider().toString(),
-                        String.valueOf(element.getCredentials().getInternal().getId()),
-                        element.getCredentials().getExternal().getFile());
-            })
-                .collect(Collectors.joining(""));
+        return unitKeyCache.get(validationSecretsApplication, () ->
+                validationSecretsApplication.getSecrets().stream()
+                        .sorted(Comparator.comparing(element -> element.getProvider().toString()))
+                        .map(element ->
+                    switch (element.getProvider()) {
+                        case S3 -> workspaceService.createUnitKey(
+                                element.getProvider().toString(),
+                                String.valueOf(element.getCredentials().getInternal().getId()),
+                                element.getCredentials().getExternal().getFile(),
+                                element.getCredentials().getExternal().getRegion());
+                        case GCS, LOCAL -> workspaceService.createUnitKey(
+                                element.getProvider().toString(),
+                                String.valueOf(element.getCredentials().getInternal().getId()),
+                                element.getCredentials().getExternal().getFile());
+                    })
+                        .collect(Collectors.joining("")));
     }
 
     /**
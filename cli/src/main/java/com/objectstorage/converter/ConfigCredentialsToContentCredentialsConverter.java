@@ -26,7 +26,7 @@ public class ConfigCredentialsToContentCredentialsConverter<T> {
                     CredentialsFieldsInternal.of(configCredentials.getId()),
                     CredentialsFieldsExternal.of(
                             configCredentials.getFile(), configCredentials.getRegion()));
-            case GCS -> CredentialsFieldsFull.of(
+            case GCS, LOCAL -> CredentialsFieldsFull.of(
                     CredentialsFieldsInternal.of(configCredentials.getId()),
                     CredentialsFieldsExternal.of(configCredentials.getFile(), null));
         };
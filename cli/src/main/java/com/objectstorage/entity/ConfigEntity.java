@@ -45,7 +45,10 @@ public class ConfigEntity {
             S3("s3"),
 
             @JsonProperty("gcs")
-            GCS("gcs");
+            GCS("gcs"),
+
+            @JsonProperty("local")
+            LOCAL("local");
 
             private final String value;
 
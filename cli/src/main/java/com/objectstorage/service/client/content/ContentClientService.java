@@ -4,7 +4,10 @@ import com.objectstorage.ApiClient;
 import com.objectstorage.api.ContentResourceApi;
 import com.objectstorage.exception.ApiServerOperationFailureException;
 import com.objectstorage.exception.ApiServerNotAvailableException;
+import com.objectstorage.model.ContentRetrievalCompound;
+import com.objectstorage.model.ContentRetrievalProviderUnit;
 import com.objectstorage.model.ContentRetrievalResult;
+import com.objectstorage.model.ContentRetrievalUnits;
 import com.objectstorage.service.client.common.helper.ClientConfigurationHelper;
 import com.objectstorage.service.client.common.IClient;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
@@ -13,6 +16,11 @@ import org.springframework.web.reactive.function.client.WebClientRequestExceptio
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.netty.http.client.HttpClient;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
 /**
  * Represents implementation for v1ContentGet endpoint of ContentResourceApi.
  */
@@ -30,19 +38,72 @@ public class ContentClientService implements IClient<ContentRetrievalResult, Str
     }
 
     /**
+     * Retrieves all the content pages, following continuation tokens until the last page is reached. Uploaded units
+     * of the subsequent pages are merged into the compounds of the first one.
+     *
      * @see IClient
      */
     @Override
     public ContentRetrievalResult process(String authorization) throws ApiServerOperationFailureException {
         try {
-            return contentResourceApi
+            ContentRetrievalResult result = contentResourceApi
                     .v1ContentGet(
-                            ClientConfigurationHelper.getWrappedToken(authorization))
+                            ClientConfigurationHelper.getWrappedToken(authorization), null, null, null)
                     .block();
+
+            String continuationToken = Objects.requireNonNull(result).getContinuationToken();
+
+            while (Objects.nonNull(continuationToken)) {
+                ContentRetrievalResult page = Objects.requireNonNull(contentResourceApi
+                        .v1ContentGet(
+                                ClientConfigurationHelper.getWrappedToken(authorization),
+                                null,
+                                continuationToken,
+                                null)
+                        .block());
+
+                mergePage(result, page);
+
+                continuationToken = page.getContinuationToken();
+            }
+
+            result.setContinuationToken(null);
+
+            return result;
         } catch (WebClientResponseException e) {
             throw new ApiServerOperationFailureException(e.getResponseBodyAsString());
         } catch (WebClientRequestException e) {
             throw new ApiServerOperationFailureException(new ApiServerNotAvailableException(e.getMessage()).getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Merges uploaded units of the given page into the compounds of the given result with the same root and provider.
+     *
+     * @param result given result, which accumulates all the retrieved pages.
+     * @param page given subsequent page.
+     */
+    private static void mergePage(ContentRetrievalResult result, ContentRetrievalResult page) {
+        for (ContentRetrievalCompound pageCompound : page.getCompounds()) {
+            Optional<ContentRetrievalCompound> compound = result.getCompounds()
+                    .stream()
+                    .filter(element -> Objects.equals(element.getRoot(), pageCompound.getRoot()) &&
+                            Objects.equals(element.getProvider(), pageCompound.getProvider()))
+                    .findFirst();
+
+            if (compound.isEmpty()) {
+                result.getCompounds().add(pageCompound);
+
+                continue;
+            }
+
+            ContentRetrievalUnits units = compound.get().getContent().getFirst();
+
+            List<ContentRetrievalProviderUnit> uploaded = new ArrayList<>(units.getUploaded());
+
+            pageCompound.getContent().forEach(element -> uploaded.addAll(element.getUploaded()));
+
+            units.setUploaded(uploaded);
+        }
+    }
+}
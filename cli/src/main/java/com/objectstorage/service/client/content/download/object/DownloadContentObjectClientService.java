@@ -45,7 +45,9 @@ public class DownloadContentObjectClientService implements IClient<byte[], Conte
             return contentResourceApi
                     .v1ContentObjectDownloadPost(
                             ClientConfigurationHelper.getWrappedToken(input.getAuthorization()),
-                            input.getContentObjectDownload())
+                            input.getContentObjectDownload(),
+                            null,
+                            null)
                     .block();
         } catch (WebClientResponseException e) {
             throw new ApiServerOperationFailureException(e.getResponseBodyAsString());
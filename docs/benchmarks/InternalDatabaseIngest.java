@@ -0,0 +1,135 @@
+/**
+ * Describes ingest rate benchmark of ObjectStorage internal database, comparing default SQLite profile with the tuned
+ * one, declared in the 'internal-storage.sqlite3' section of the configuration file.
+ *
+ * Usage: java -cp sqlite-jdbc.jar docs/benchmarks/InternalDatabaseIngest.java [rows] [readers]
+ *
+ * Connections are opened through the sqlite-jdbc driver with the same JDBC URL, as the one composed for the API Server
+ * datasource, so the tuned profile is applied by the driver exactly the same way. Each upload is committed in its own
+ * transaction on a single writer connection, while the given amount of reader threads concurrently query pending
+ * temporate rows on read-only connections.
+ */
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+public class InternalDatabaseIngest {
+    private static final Map<String, String> PROFILES = new LinkedHashMap<>();
+
+    static {
+        PROFILES.put("default", "");
+        PROFILES.put(
+                "tuned",
+                "?busy_timeout=5000&journal_mode=wal&synchronous=normal&mmap_size=268435456&cache_size=-65536");
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int readers = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+
+        for (Map.Entry<String, String> profile : PROFILES.entrySet()) {
+            run(profile.getKey(), profile.getValue(), rows, readers);
+        }
+    }
+
+    private static void run(String name, String parameters, int rows, int readers) throws Exception {
+        Path path = Files.createTempDirectory("objectstorage-benchmark").resolve("data.db");
+
+        String url = String.format("jdbc:sqlite:%s%s", path, parameters);
+
+        try (Connection connection = DriverManager.getConnection(url);
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("""
+                    CREATE TABLE temporate (
+                        id INTEGER PRIMARY KEY AUTOINCREMENT,
+                        provider INT NOT NULL,
+                        secret INT NOT NULL,
+                        location VARCHAR NOT NULL,
+                        hash VARCHAR NOT NULL,
+                        created_at LONG NOT NULL)""");
+            statement.executeUpdate("CREATE INDEX idx_temporate_hash ON temporate (hash)");
+            statement.executeUpdate("CREATE INDEX idx_temporate_created_at ON temporate (created_at)");
+
+            try (ResultSet resultSet = statement.executeQuery("PRAGMA journal_mode")) {
+                resultSet.next();
+
+                System.out.printf("%-8s journal_mode=%s%n", name, resultSet.getString(1));
+            }
+        }
+
+        AtomicBoolean stop = new AtomicBoolean();
+        LongAdder reads = new LongAdder();
+
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < readers; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try (Connection connection = DriverManager.getConnection(url);
+                     Statement statement = connection.createStatement()) {
+                    statement.execute("PRAGMA query_only = 1");
+
+                    while (!stop.get()) {
+                        try (ResultSet resultSet = statement.executeQuery(
+                                "SELECT t.location, t.hash FROM temporate as t ORDER BY t.created_at LIMIT 10")) {
+                            while (resultSet.next()) {
+                                resultSet.getString(1);
+                            }
+
+                            reads.increment();
+                        } catch (SQLException ignored) {
+                        }
+                    }
+                } catch (SQLException e) {
+                    throw new RuntimeException(e);
+                }
+            }));
+        }
+
+        long start;
+        long elapsed;
+
+        try (Connection writer = DriverManager.getConnection(url);
+             PreparedStatement insert = writer.prepareStatement(
+                     "INSERT INTO temporate (provider, secret, location, hash, created_at) VALUES (?, ?, ?, ?, ?)")) {
+            writer.setAutoCommit(false);
+
+            start = System.nanoTime();
+
+            for (int value = 0; value < rows; value++) {
+                insert.setInt(1, value % 3 + 1);
+                insert.setInt(2, value % 100 + 1);
+                insert.setString(3, "object-" + value);
+                insert.setString(4, String.format("%064x", value));
+                insert.setLong(5, value);
+                insert.executeUpdate();
+
+                writer.commit();
+            }
+
+            elapsed = System.nanoTime() - start;
+        }
+
+        stop.set(true);
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        double seconds = elapsed / 1e9;
+
+        System.out.printf(
+                "%-8s %8d rows %8.2f s %10.0f rows/s %10d reads%n", name, rows, seconds, rows / seconds, reads.sum());
+    }
+}
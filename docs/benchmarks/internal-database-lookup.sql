@@ -0,0 +1,83 @@
+-- Describes lookup latency benchmark of ObjectStorage internal database at 1M temporate rows.
+--
+-- Usage: sqlite3 /tmp/objectstorage-benchmark.db < docs/benchmarks/internal-database-lookup.sql
+--
+-- Hot queries are executed twice: before and after creation of the secondary indexes, declared in changeSet 3 of
+-- the Liquibase changelog.
+
+.timer off
+
+DROP TABLE IF EXISTS temporate;
+DROP TABLE IF EXISTS content;
+DROP TABLE IF EXISTS secret;
+DROP TABLE IF EXISTS provider;
+
+CREATE TABLE provider (id INTEGER PRIMARY KEY AUTOINCREMENT, name VARCHAR NOT NULL UNIQUE);
+CREATE TABLE secret (
+    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    session INT NOT NULL,
+    credentials VARCHAR,
+    credentials_digest CHAR(64));
+CREATE TABLE content (
+    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    provider INT NOT NULL REFERENCES provider(id),
+    secret INT NOT NULL UNIQUE REFERENCES secret(id),
+    root VARCHAR NOT NULL);
+CREATE TABLE temporate (
+    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    provider INT NOT NULL REFERENCES provider(id),
+    secret INT NOT NULL REFERENCES secret(id),
+    location VARCHAR NOT NULL,
+    hash VARCHAR NOT NULL,
+    created_at LONG NOT NULL);
+
+INSERT INTO provider (name) VALUES ('s3'), ('gcs'), ('local');
+
+WITH RECURSIVE sequence(value) AS (SELECT 1 UNION ALL SELECT value + 1 FROM sequence WHERE value < 10000)
+INSERT INTO secret (session, credentials, credentials_digest)
+SELECT value,
+       printf('{"file":"%s","region":"us-west-2"}', hex(randomblob(256))),
+       lower(hex(randomblob(32)))
+FROM sequence;
+
+INSERT INTO content (provider, secret, root)
+SELECT (id % 3) + 1, id, printf('root-%d', id) FROM secret;
+
+WITH RECURSIVE sequence(value) AS (SELECT 1 UNION ALL SELECT value + 1 FROM sequence WHERE value < 1000000)
+INSERT INTO temporate (provider, secret, location, hash, created_at)
+SELECT (value % 3) + 1,
+       (value % 10000) + 1,
+       printf('directory/object-%d', value),
+       printf('%064x', value),
+       1700000000 + value
+FROM sequence;
+
+ANALYZE;
+
+.print 'Lookup latency without secondary indexes'
+.timer on
+
+SELECT count(*) FROM temporate as t WHERE t.hash = printf('%064x', 500000);
+SELECT t.id FROM temporate as t WHERE t.location = 'directory/object-500000' AND t.provider = 3 AND t.secret = 1 ORDER BY created_at DESC LIMIT 1;
+SELECT t.id FROM temporate as t ORDER BY t.created_at DESC LIMIT 1;
+SELECT t.id FROM content as t WHERE t.provider = 3 AND t.secret = 5000;
+SELECT t.id FROM secret as t WHERE t.session = 5000 AND t.credentials = (SELECT credentials FROM secret WHERE id = 5000);
+
+.timer off
+
+CREATE INDEX idx_secret_session_credentials_digest ON secret (session, credentials_digest);
+CREATE INDEX idx_content_provider_secret ON content (provider, secret);
+CREATE INDEX idx_temporate_hash ON temporate (hash);
+CREATE INDEX idx_temporate_location_provider_secret ON temporate (location, provider, secret);
+CREATE INDEX idx_temporate_created_at ON temporate (created_at);
+
+ANALYZE;
+
+.print 'Lookup latency with secondary indexes'
+.timer on
+
+SELECT count(*) FROM temporate as t WHERE t.hash = printf('%064x', 500000);
+SELECT t.id FROM temporate as t WHERE t.location = 'directory/object-500000' AND t.provider = 3 AND t.secret = 1 ORDER BY created_at DESC LIMIT 1;
+SELECT t.id FROM temporate as t ORDER BY t.created_at DESC LIMIT 1;
+SELECT t.id FROM content as t WHERE t.provider = 3 AND t.secret = 5000;
+SELECT t.id FROM secret as t WHERE t.session = 5000 AND t.credentials_digest = (SELECT credentials_digest FROM secret WHERE id = 5000);